@@ -0,0 +1,96 @@
+package subway.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.application.DatabaseExecutor;
+import subway.application.LineService;
+import subway.application.StationService;
+import subway.application.SubwayNetwork;
+import subway.application.SubwayNetworkLoader;
+import subway.dao.DataVersion;
+import subway.dao.EntityCache;
+import subway.dao.LineDao;
+import subway.dao.SectionDao;
+import subway.dao.StationDao;
+
+import java.time.Duration;
+import java.util.UUID;
+
+class BenchmarkDatabase {
+    private static final int BULK_BATCH_SIZE = 500;
+
+    private final EmbeddedDatabase database;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final DataVersion dataVersion = new DataVersion();
+    private final StationDao stationDao;
+    private final LineDao lineDao;
+    private final SectionDao sectionDao;
+    private final DatabaseExecutor databaseExecutor = new DatabaseExecutor(4, 100, Duration.ofSeconds(3));
+
+    BenchmarkDatabase() {
+        this.database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("benchmark-" + UUID.randomUUID())
+                .addScript("classpath:schema.sql")
+                .build();
+        this.jdbcTemplate = new JdbcTemplate(database);
+        this.transactionManager = new DataSourceTransactionManager(database);
+        this.stationDao = new StationDao(jdbcTemplate, dataVersion, new EntityCache<>(10000, Duration.ZERO));
+        this.lineDao = new LineDao(jdbcTemplate, dataVersion);
+        this.sectionDao = new SectionDao(jdbcTemplate, dataVersion);
+    }
+
+    void insertStations(int count) {
+        jdbcTemplate.update("insert into STATION (name) select '역' || x from system_range(1, ?)", count);
+    }
+
+    void insertLines(int count) {
+        jdbcTemplate.update("insert into LINE (name, color) select x || '호선', 'bg-' || mod(x, 10) || '00' from system_range(1, ?)", count);
+    }
+
+    StationService stationService() {
+        return new StationService(stationDao, subwayNetwork(), event -> {
+        }, databaseExecutor, BULK_BATCH_SIZE, transactionManager, Duration.ofSeconds(30));
+    }
+
+    LineService lineService() {
+        return new LineService(lineDao, subwayNetwork(), event -> {
+        }, databaseExecutor, BULK_BATCH_SIZE, transactionManager, Duration.ofSeconds(30));
+    }
+
+    private SubwayNetwork subwayNetwork() {
+        return new SubwayNetwork(new SubwayNetworkLoader(stationDao, lineDao, sectionDao, transactionManager), dataVersion, event -> {
+        });
+    }
+
+    TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    StationDao stationDao() {
+        return stationDao;
+    }
+
+    LegacyStationDao legacyStationDao() {
+        return new LegacyStationDao(jdbcTemplate, database);
+    }
+
+    LineDao lineDao() {
+        return lineDao;
+    }
+
+    void shutdown() {
+        databaseExecutor.shutdown();
+        database.shutdown();
+    }
+}
@@ -0,0 +1,87 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.dao.StationDao;
+import subway.domain.Station;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 500;
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private StationDao stationDao;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        transactionTemplate = database.transactionTemplate();
+        stationDao = database.stationDao();
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        database.jdbcTemplate().update("delete from STATION");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Station> insertOneByOne() {
+        List<Station> stations = nextStations();
+        return transactionTemplate.execute(status -> {
+            List<Station> inserted = new ArrayList<>(stations.size());
+            for (Station station : stations) {
+                inserted.add(stationDao.insert(station));
+            }
+            return inserted;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Station> insertInBatches() {
+        List<Station> stations = nextStations();
+        return transactionTemplate.execute(status -> {
+            List<Station> inserted = new ArrayList<>(stations.size());
+            for (int from = 0; from < stations.size(); from += BATCH_SIZE) {
+                int to = Math.min(from + BATCH_SIZE, stations.size());
+                inserted.addAll(stationDao.insertAll(stations.subList(from, to)));
+            }
+            return inserted;
+        });
+    }
+
+    private List<Station> nextStations() {
+        List<Station> stations = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            stations.add(new Station("역" + sequence++));
+        }
+        return stations;
+    }
+}
@@ -0,0 +1,100 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.dao.StationDao;
+import subway.domain.Station;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoMappingBenchmark {
+    private static final int ROWS = 1000;
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private StationDao stationDao;
+    private LegacyStationDao legacyStationDao;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.insertStations(ROWS);
+        transactionTemplate = database.transactionTemplate();
+        stationDao = database.stationDao();
+        legacyStationDao = database.legacyStationDao();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public Station insert() {
+        return transactionTemplate.execute(status -> stationDao.insert(nextStation()));
+    }
+
+    @Benchmark
+    public Station legacyInsert() {
+        return transactionTemplate.execute(status -> legacyStationDao.insert(nextStation()));
+    }
+
+    @Benchmark
+    public Station findById() {
+        return transactionTemplate.execute(status -> stationDao.findById(nextId()).orElseThrow());
+    }
+
+    @Benchmark
+    public Station legacyFindById() {
+        return transactionTemplate.execute(status -> legacyStationDao.findById(nextId()));
+    }
+
+    @Benchmark
+    public List<Station> findAll() {
+        return transactionTemplate.execute(status -> stationDao.findAll());
+    }
+
+    @Benchmark
+    public List<Station> legacyFindAll() {
+        return transactionTemplate.execute(status -> legacyStationDao.findAll());
+    }
+
+    @Benchmark
+    public void update() {
+        long id = nextId();
+        transactionTemplate.executeWithoutResult(status -> stationDao.update(new Station(id, "역" + id)));
+    }
+
+    @Benchmark
+    public void legacyUpdate() {
+        long id = nextId();
+        transactionTemplate.executeWithoutResult(status -> legacyStationDao.update(new Station(id, "역" + id)));
+    }
+
+    private Station nextStation() {
+        return new Station("신규역" + sequence++);
+    }
+
+    private long nextId() {
+        return sequence++ % ROWS + 1;
+    }
+}
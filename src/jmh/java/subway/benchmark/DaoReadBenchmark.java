@@ -0,0 +1,69 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.dao.LineDao;
+import subway.dao.StationDao;
+import subway.domain.Line;
+import subway.domain.Station;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoReadBenchmark {
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private BenchmarkDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private StationDao stationDao;
+    private LineDao lineDao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.insertStations(rows);
+        database.insertLines(rows);
+        transactionTemplate = database.transactionTemplate();
+        stationDao = database.stationDao();
+        lineDao = database.lineDao();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public List<Station> stationFindAll() {
+        return transactionTemplate.execute(status -> stationDao.findAll());
+    }
+
+    @Benchmark
+    public List<Line> lineFindAll() {
+        return transactionTemplate.execute(status -> lineDao.findAll());
+    }
+
+    @Benchmark
+    public List<Station> stationFindAllCached() {
+        return stationDao.findAll();
+    }
+}
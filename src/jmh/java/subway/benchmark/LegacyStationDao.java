@@ -0,0 +1,45 @@
+package subway.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import subway.domain.Station;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+class LegacyStationDao {
+    private final JdbcTemplate jdbcTemplate;
+    private final SimpleJdbcInsert insertAction;
+
+    private final RowMapper<Station> rowMapper = (rs, rowNum) ->
+            new Station(
+                    rs.getLong("id"),
+                    rs.getString("name")
+            );
+
+    LegacyStationDao(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertAction = new SimpleJdbcInsert(dataSource)
+                .withTableName("station")
+                .usingGeneratedKeyColumns("id");
+    }
+
+    Station insert(Station station) {
+        Long id = insertAction.executeAndReturnKey(new BeanPropertySqlParameterSource(station)).longValue();
+        return new Station(id, station.getName());
+    }
+
+    List<Station> findAll() {
+        return jdbcTemplate.query("select * from STATION", rowMapper);
+    }
+
+    Station findById(Long id) {
+        return jdbcTemplate.queryForObject("select * from STATION where id = ?", rowMapper, id);
+    }
+
+    void update(Station newStation) {
+        jdbcTemplate.update("update STATION set name = ? where id = ?", new Object[]{newStation.getName(), newStation.getId()});
+    }
+}
@@ -0,0 +1,100 @@
+package subway.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import subway.application.LineService;
+import subway.application.StationService;
+import subway.dto.LineResponse;
+import subway.dto.PageResponse;
+import subway.dto.StationResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListEndpointBenchmark {
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private BenchmarkDatabase database;
+    private StationService stationService;
+    private LineService lineService;
+    private ObjectMapper objectMapper;
+    private List<StationResponse> stationResponses;
+    private List<LineResponse> lineResponses;
+    private byte[] encodedStations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        database = new BenchmarkDatabase();
+        database.insertStations(rows);
+        database.insertLines(rows);
+        stationService = database.stationService();
+        lineService = database.lineService();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        stationResponses = stationService.findStationResponses(rows).getItems();
+        lineResponses = lineService.findLineResponses(rows).getItems();
+        encodedStations = objectMapper.writeValueAsBytes(stationResponses);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Benchmark
+    public PageResponse<StationResponse> stationResponses() {
+        return stationService.findStationResponses(rows);
+    }
+
+    @Benchmark
+    public PageResponse<LineResponse> lineResponses() {
+        return lineService.findLineResponses(rows);
+    }
+
+    @Benchmark
+    public void serializeStations() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), stationResponses);
+    }
+
+    @Benchmark
+    public void serializeLines() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), lineResponses);
+    }
+
+    @Benchmark
+    public void stationListEndpoint() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), stationService.findStationResponses(rows).getItems());
+    }
+
+    @Benchmark
+    public byte[] gzipStations() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(encodedStations);
+        }
+        return buffer.toByteArray();
+    }
+}
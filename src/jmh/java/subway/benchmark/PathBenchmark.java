@@ -0,0 +1,127 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import subway.domain.Journey;
+import subway.domain.Line;
+import subway.domain.Reachability;
+import subway.domain.Section;
+import subway.domain.ShortestPath;
+import subway.domain.ShortestPathTree;
+import subway.domain.Station;
+import subway.domain.SubwayGraph;
+import subway.domain.SubwayNetworkSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathBenchmark {
+    @Param({"10", "32", "100"})
+    private int gridSize;
+
+    private List<Station> stations;
+    private List<Section> sections;
+    private SubwayGraph graph;
+    private SubwayNetworkSnapshot snapshot;
+    private Long source;
+    private Long target;
+    private List<Long> batchTargets;
+    private final Reachability reachability = new Reachability();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stations = new ArrayList<>();
+        sections = new ArrayList<>();
+        for (int row = 0; row < gridSize; row++) {
+            for (int column = 0; column < gridSize; column++) {
+                stations.add(new Station(stationId(row, column), "역" + row + "-" + column));
+            }
+        }
+        for (int row = 0; row < gridSize; row++) {
+            for (int column = 0; column + 1 < gridSize; column++) {
+                sections.add(new Section((long) sections.size() + 1, (long) row + 1,
+                        stationId(row, column), stationId(row, column + 1), 1 + (row + column) % 7));
+            }
+        }
+        for (int column = 0; column < gridSize; column++) {
+            for (int row = 0; row + 1 < gridSize; row++) {
+                sections.add(new Section((long) sections.size() + 1, (long) gridSize + column + 1,
+                        stationId(row, column), stationId(row + 1, column), 1 + (row * column) % 5));
+            }
+        }
+        graph = SubwayGraph.of(stations, sections);
+        List<Line> lines = new ArrayList<>();
+        for (long lineId = 1; lineId <= gridSize * 2L; lineId++) {
+            lines.add(new Line(lineId, lineId + "호선", "bg-" + lineId));
+        }
+        snapshot = SubwayNetworkSnapshot.of(stations, lines, sections);
+        source = stationId(0, 0);
+        target = stationId(gridSize - 1, gridSize - 1);
+        snapshot.findParetoJourneys(source, target);
+        batchTargets = new ArrayList<>();
+        for (int row = 1; row < gridSize; row += Math.max(1, gridSize / 8)) {
+            batchTargets.add(stationId(row, gridSize - row));
+        }
+    }
+
+    private long stationId(int row, int column) {
+        return (long) row * gridSize + column + 1;
+    }
+
+    @Benchmark
+    public ShortestPath findShortestPath() {
+        return graph.findShortestPath(source, target);
+    }
+
+    @Benchmark
+    public int findShortestPathsOneByOne() {
+        int total = 0;
+        for (Long batchTarget : batchTargets) {
+            total += graph.findShortestPath(source, batchTarget).getDistance();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int findShortestPathsFromTree() {
+        ShortestPathTree tree = graph.findShortestPathTree(source);
+        int total = 0;
+        for (Long batchTarget : batchTargets) {
+            total += tree.findPath(batchTarget).orElseThrow().getDistance();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public List<Journey> findParetoJourneys() {
+        return snapshot.findParetoJourneys(source, target);
+    }
+
+    @Benchmark
+    public int findReachable() {
+        snapshot.findReachable(List.of(source), gridSize * 2, 2, reachability);
+        return reachability.size();
+    }
+
+    @Benchmark
+    public SubwayGraph buildGraph() {
+        return SubwayGraph.of(stations, sections);
+    }
+}
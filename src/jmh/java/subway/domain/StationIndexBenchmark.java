@@ -0,0 +1,89 @@
+package subway.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 역 id -> 번호 색인을 HashMap<Long, Integer>로 만들 때와 StationRegistry로 만들 때의 할당량과 조회 속도를 비교한다.
+// 할당량은 -prof gc의 gc.alloc.rate.norm으로 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StationIndexBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"100000"})
+    private int stationCount;
+
+    private List<Station> stations;
+    private Map<Long, Integer> boxedIndex;
+    private StationRegistry registry;
+    private long[] lookupIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            // 실제 id처럼 띄엄띄엄 증가하게 둔다.
+            stations.add(new Station(1_000L + i * 3L, "역" + i));
+        }
+        boxedIndex = buildBoxedIndex();
+        registry = buildRegistry();
+        Random random = new Random(42);
+        lookupIds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupIds[i] = stations.get(random.nextInt(stationCount)).getId();
+        }
+    }
+
+    @Benchmark
+    public Map<Long, Integer> buildBoxedIndex() {
+        Map<Long, Integer> index = new HashMap<>(stations.size() * 2);
+        for (int i = 0; i < stations.size(); i++) {
+            index.put(stations.get(i).getId(), i);
+        }
+        return index;
+    }
+
+    @Benchmark
+    public StationRegistry buildRegistry() {
+        return StationRegistry.of(stations);
+    }
+
+    @Benchmark
+    public long lookupBoxedIndex() {
+        long sum = 0;
+        for (long id : lookupIds) {
+            sum += boxedIndex.get(id);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lookupRegistry() {
+        long sum = 0;
+        for (long id : lookupIds) {
+            sum += registry.indexOf(id);
+        }
+        return sum;
+    }
+}
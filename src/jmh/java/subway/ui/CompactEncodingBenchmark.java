@@ -0,0 +1,192 @@
+package subway.ui;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import subway.domain.Line;
+import subway.domain.NetworkChange;
+import subway.domain.NetworkDump;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.NetworkDumpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactEncodingBenchmark {
+    private static final String[] COLORS = {"bg-green-600", "bg-orange-600", "bg-blue-600", "bg-red-600", "bg-purple-600"};
+
+    @Param({"10", "32"})
+    private int gridSize;
+
+    private ObjectMapper objectMapper;
+    private NetworkDump dump;
+    private NetworkDump delta;
+    private byte[] json;
+    private byte[] compact;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<Station> stations = new ArrayList<>();
+        for (int row = 0; row < gridSize; row++) {
+            for (int column = 0; column < gridSize; column++) {
+                stations.add(new Station(stationId(row, column), "서울시 " + row + "구 " + column + "번가역"));
+            }
+        }
+        List<Line> lines = new ArrayList<>();
+        List<Section> sections = new ArrayList<>();
+        for (int row = 0; row < gridSize; row++) {
+            long lineId = row + 1;
+            lines.add(new Line(lineId, lineId + "호선", COLORS[row % COLORS.length]));
+            for (int column = 0; column + 1 < gridSize; column++) {
+                sections.add(new Section((long) sections.size() + 1, lineId,
+                        stationId(row, column), stationId(row, column + 1), 1 + (row + column) % 7));
+            }
+        }
+        SubwayNetworkSnapshot snapshot = SubwayNetworkSnapshot.of(stations, lines, sections);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        dump = snapshot.dump();
+        delta = snapshot.delta(0, NetworkChange.merge(List.of(
+                NetworkChange.ofStations(Set.of(1L, 2L, 3L)), NetworkChange.ofLine(1L))));
+        json = objectMapper.writeValueAsBytes(NetworkDumpResponse.of(dump));
+        compact = compact(dump);
+        System.out.printf("%n[sizes] full json=%d B (gzip %d), compact=%d B (gzip %d); delta json=%d B, compact=%d B%n",
+                json.length, gzip(json).length, compact.length, gzip(compact).length,
+                objectMapper.writeValueAsBytes(NetworkDumpResponse.of(delta)).length, compact(delta).length);
+    }
+
+    private long stationId(int row, int column) {
+        return (long) row * gridSize + column + 1;
+    }
+
+    private static byte[] compact(NetworkDump dump) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        CompactResponses.writeNetwork(dump, buffer);
+        return buffer.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(NetworkDumpResponse.of(dump));
+    }
+
+    @Benchmark
+    public byte[] encodeCompact() {
+        return compact(dump);
+    }
+
+    @Benchmark
+    public JsonNode decodeJson() throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public long decodeCompact() {
+        return new CompactNetworkReader(compact).readChecksum();
+    }
+
+    // 키오스크 쪽 디코더가 하는 일을 흉내 내어, 모든 필드를 읽고 문자열을 만든다.
+    private static final class CompactNetworkReader {
+        private final byte[] bytes;
+        private int position;
+
+        CompactNetworkReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readChecksum() {
+            readVarint();
+            boolean full = readVarint() == 1;
+            long checksum = readVarint();
+            if (!full) {
+                checksum += readVarint();
+            }
+            String[] strings = new String[(int) readVarint()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = (int) readVarint();
+                strings[i] = new String(bytes, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+            long id = 0;
+            for (long count = readVarint(); count > 0; count--) {
+                id += readSignedVarint();
+                checksum += id + strings[(int) readVarint()].length();
+            }
+            checksum += readIds();
+            id = 0;
+            long sectionId = 0;
+            long stationId = 0;
+            for (long count = readVarint(); count > 0; count--) {
+                id += readSignedVarint();
+                checksum += id + strings[(int) readVarint()].length() + strings[(int) readVarint()].length();
+                for (long sections = readVarint(); sections > 0; sections--) {
+                    sectionId += readSignedVarint();
+                    stationId += readSignedVarint();
+                    long downStationId = stationId + readSignedVarint();
+                    checksum += sectionId + stationId + downStationId + readVarint();
+                    stationId = downStationId;
+                }
+            }
+            return checksum + readIds();
+        }
+
+        private long readIds() {
+            long sum = 0;
+            long id = 0;
+            for (long count = readVarint(); count > 0; count--) {
+                id += readSignedVarint();
+                sum += id;
+            }
+            return sum;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        private long readSignedVarint() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
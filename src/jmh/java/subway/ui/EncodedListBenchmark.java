@@ -0,0 +1,114 @@
+package subway.ui;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import subway.domain.NetworkVersion;
+import subway.dto.PageResponse;
+import subway.dto.StationResponse;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// EncodedListCache.respond를 요청 경로 그대로 잰다. 버전이 그대로일 때는 저장된 바이트를 돌려주기만 하고,
+// 버전이 바뀐 직후에는 압축하지 않은 본문만 렌더링한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodedListBenchmark {
+    private static final String PATH = "/stations";
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    private final AtomicLong version = new AtomicLong(1);
+    private EncodedListCache cache;
+    private List<StationResponse> stations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        stations = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            stations.add(new StationResponse(id, "역" + id));
+        }
+        cache = new EncodedListCache(Jackson2ObjectMapperBuilder.json().build());
+        cache.register(PATH, () -> new NetworkVersion(version.get(), 0),
+                () -> PageResponse.of(stations, rows, StationResponse::getId));
+        while (cache.respond(PATH, request(Map.of(HttpHeaders.ACCEPT_ENCODING, "gzip")))
+                .getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING) == null) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> respondIdentity() {
+        return cache.respond(PATH, request(Map.of()));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> respondGzip() {
+        return cache.respond(PATH, request(Map.of(HttpHeaders.ACCEPT_ENCODING, "gzip")));
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> respondNotModified() {
+        return cache.respond(PATH, request(Map.of(HttpHeaders.IF_NONE_MATCH, "\"1\"")));
+    }
+
+    // 매번 버전을 올려 쓰기 직후의 첫 요청을 흉내 낸다. 압축은 인코딩 스레드가 따로 한다.
+    @Benchmark
+    public ResponseEntity<byte[]> respondAfterWrite() {
+        version.incrementAndGet();
+        return cache.respond(PATH, request(Map.of(HttpHeaders.ACCEPT_ENCODING, "gzip")));
+    }
+
+    private static WebRequest request(Map<String, String> headers) {
+        HttpServletRequest request = (HttpServletRequest) Proxy.newProxyInstance(
+                EncodedListBenchmark.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMethod":
+                            return "GET";
+                        case "getHeader":
+                            return headers.get((String) args[0]);
+                        case "getHeaders":
+                            String value = headers.get((String) args[0]);
+                            return value == null ? Collections.emptyEnumeration() : Collections.enumeration(List.of(value));
+                        case "getDateHeader":
+                            return -1L;
+                        default:
+                            return null;
+                    }
+                });
+        return new ServletWebRequest(request);
+    }
+}
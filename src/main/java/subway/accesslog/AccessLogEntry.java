@@ -0,0 +1,85 @@
+package subway.accesslog;
+
+import java.time.Instant;
+
+class AccessLogEntry {
+    private final long timestamp;
+    private final String method;
+    private final String uri;
+    private final String endpoint;
+    private final int status;
+    private final long durationMicros;
+    private final String requestBody;
+    private final String responseBody;
+
+    AccessLogEntry(long timestamp, String method, String uri, String endpoint, int status, long durationMicros,
+                   String requestBody, String responseBody) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.uri = uri;
+        this.endpoint = endpoint;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+    }
+
+    String format() {
+        StringBuilder line = new StringBuilder(128);
+        line.append("ts=").append(Instant.ofEpochMilli(timestamp))
+                .append(" method=").append(method)
+                .append(" uri=");
+        appendValue(line, uri);
+        line.append(" endpoint=");
+        appendValue(line, endpoint);
+        line.append(" status=").append(status)
+                .append(" us=").append(durationMicros);
+        if (requestBody != null) {
+            line.append(" req=");
+            appendQuoted(line, requestBody);
+        }
+        if (responseBody != null) {
+            line.append(" res=");
+            appendQuoted(line, responseBody);
+        }
+        return line.toString();
+    }
+
+    private static void appendValue(StringBuilder line, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c <= ' ' || c == '"' || c == '\\') {
+                appendQuoted(line, value);
+                return;
+            }
+        }
+        line.append(value);
+    }
+
+    private static void appendQuoted(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    line.append(c);
+            }
+        }
+        line.append('"');
+    }
+}
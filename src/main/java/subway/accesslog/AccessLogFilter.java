@@ -0,0 +1,99 @@
+package subway.accesslog;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    private final AccessLogProperties properties;
+    private final AccessLogSampler sampler;
+    private final AccessLogWriter writer;
+
+    public AccessLogFilter(AccessLogProperties properties, AccessLogWriter writer) {
+        this.properties = properties;
+        this.sampler = new AccessLogSampler(properties.getSampleRate(), properties.getEndpointRates(), properties.getStatusRates());
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startedAt = System.currentTimeMillis();
+        long startedNanos = System.nanoTime();
+        CapturingRequest capturingRequest = new CapturingRequest(request, properties.getMaxBodySize());
+        CapturingResponse capturingResponse = new CapturingResponse(response, properties.getMaxBodySize());
+        try {
+            filterChain.doFilter(capturingRequest, capturingResponse);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(capturingRequest, capturingResponse, startedAt, startedNanos));
+            } else {
+                record(capturingRequest, capturingResponse, startedAt, startedNanos);
+            }
+        }
+    }
+
+    // 본문은 모든 요청에서 최대 크기까지만 담아 두고, 기록하지 않기로 한 요청의 본문은 그대로 버린다.
+    private void record(CapturingRequest request, CapturingResponse response, long startedAt, long startedNanos) {
+        int status = response.getStatus();
+        if (!sampler.sample(UrlPathHelper.defaultInstance.getPathWithinApplication(request)) && !sampler.sample(status)) {
+            writer.skip();
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern == null ? UNMATCHED_ENDPOINT : pattern.toString();
+        long durationMicros = (System.nanoTime() - startedNanos) / 1000;
+        String query = request.getQueryString();
+        String uri = query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+        writer.submit(new AccessLogEntry(startedAt, request.getMethod(), uri, endpoint, status, durationMicros,
+                request.body(), response.body()));
+    }
+
+    private class CompletionListener implements AsyncListener {
+        private final CapturingRequest request;
+        private final CapturingResponse response;
+        private final long startedAt;
+        private final long startedNanos;
+
+        CompletionListener(CapturingRequest request, CapturingResponse response, long startedAt, long startedNanos) {
+            this.request = request;
+            this.response = response;
+            this.startedAt = startedAt;
+            this.startedNanos = startedNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, startedAt, startedNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
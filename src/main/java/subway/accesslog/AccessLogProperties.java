@@ -0,0 +1,66 @@
+package subway.accesslog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "subway.access-log")
+public class AccessLogProperties {
+    private boolean enabled = true;
+    private int capacity = 8192;
+    private int maxBodySize = 1024;
+    private double sampleRate = 0.01;
+    private Map<String, Double> endpointRates = new HashMap<>();
+    private Map<String, Double> statusRates = new HashMap<>(Map.of("4xx", 1.0, "5xx", 1.0));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(int maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public Map<String, Double> getEndpointRates() {
+        return endpointRates;
+    }
+
+    public void setEndpointRates(Map<String, Double> endpointRates) {
+        this.endpointRates = endpointRates;
+    }
+
+    public Map<String, Double> getStatusRates() {
+        return statusRates;
+    }
+
+    public void setStatusRates(Map<String, Double> statusRates) {
+        this.statusRates = statusRates;
+    }
+}
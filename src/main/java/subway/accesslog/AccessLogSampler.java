@@ -0,0 +1,73 @@
+package subway.accesslog;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+class AccessLogSampler {
+    private static final int STATUS_CLASS_COUNT = 6;
+
+    private final double defaultRate;
+    // 겹치는 패턴이 있으면 더 구체적인 패턴의 비율을 따른다.
+    private final Map<PathPattern, Double> endpointRates = new TreeMap<>(PathPattern.SPECIFICITY_COMPARATOR);
+    private final double[] statusClassRates = new double[STATUS_CLASS_COUNT];
+
+    AccessLogSampler(double defaultRate, Map<String, Double> endpointRates, Map<String, Double> statusRates) {
+        this.defaultRate = defaultRate;
+        for (Map.Entry<String, Double> endpointRate : endpointRates.entrySet()) {
+            this.endpointRates.put(PathPatternParser.defaultInstance.parse(endpointRate.getKey()), endpointRate.getValue());
+        }
+        for (Map.Entry<String, Double> statusRate : statusRates.entrySet()) {
+            statusClassRates[parseStatusClass(statusRate.getKey())] = statusRate.getValue();
+        }
+    }
+
+    private static int parseStatusClass(String statusClass) {
+        if (statusClass.length() != 3 || !statusClass.substring(1).equalsIgnoreCase("xx")
+                || statusClass.charAt(0) < '1' || statusClass.charAt(0) > '5') {
+            throw new IllegalArgumentException("상태 코드 구분은 1xx ~ 5xx 형식이어야 합니다: " + statusClass);
+        }
+        return statusClass.charAt(0) - '0';
+    }
+
+    boolean sample(String path) {
+        return draw(rateOf(path));
+    }
+
+    // 엔드포인트 표본에서 빠진 요청이라도 상태 코드 구분의 비율만큼은 본문과 함께 기록한다.
+    boolean sample(int status) {
+        return draw(rateOf(status));
+    }
+
+    private static boolean draw(double rate) {
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private double rateOf(String path) {
+        if (endpointRates.isEmpty()) {
+            return defaultRate;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (Map.Entry<PathPattern, Double> endpointRate : endpointRates.entrySet()) {
+            if (endpointRate.getKey().matches(container)) {
+                return endpointRate.getValue();
+            }
+        }
+        return defaultRate;
+    }
+
+    private double rateOf(int status) {
+        int statusClass = status / 100;
+        if (statusClass <= 0 || statusClass >= STATUS_CLASS_COUNT) {
+            return 0;
+        }
+        return statusClassRates[statusClass];
+    }
+}
@@ -0,0 +1,37 @@
+package subway.accesslog;
+
+public class AccessLogStats {
+    private final long written;
+    private final long dropped;
+    private final long sampledOut;
+    private final int queueDepth;
+    private final int capacity;
+
+    public AccessLogStats(long written, long dropped, long sampledOut, int queueDepth, int capacity) {
+        this.written = written;
+        this.dropped = dropped;
+        this.sampledOut = sampledOut;
+        this.queueDepth = queueDepth;
+        this.capacity = capacity;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getSampledOut() {
+        return sampledOut;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
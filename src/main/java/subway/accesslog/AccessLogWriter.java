@@ -0,0 +1,115 @@
+package subway.accesslog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class AccessLogWriter implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger("subway.access");
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private final AccessLogRingBuffer<AccessLogEntry> buffer;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private volatile boolean running;
+    private volatile boolean idle;
+    private volatile Thread thread;
+    private long reportedDrops;
+
+    public AccessLogWriter(AccessLogProperties properties) {
+        this.buffer = new AccessLogRingBuffer<>(Integer.highestOneBit(Math.max(2, properties.getCapacity())));
+    }
+
+    void submit(AccessLogEntry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+            return;
+        }
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void skip() {
+        sampledOut.increment();
+    }
+
+    public AccessLogStats stats() {
+        return new AccessLogStats(written.sum(), dropped.sum(), sampledOut.sum(), buffer.size(), buffer.capacity());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::drainWhileRunning, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainWhileRunning() {
+        while (running) {
+            if (drain() == 0) {
+                reportDrops();
+                awaitEntries();
+            }
+        }
+        drain();
+        reportDrops();
+    }
+
+    // 쉬겠다고 알린 뒤 버퍼를 다시 확인하므로, 그 사이에 넣은 생산자는 반드시 idle을 보고 깨운다.
+    private void awaitEntries() {
+        idle = true;
+        if (running && buffer.size() == 0) {
+            LockSupport.park(this);
+        }
+        idle = false;
+    }
+
+    private int drain() {
+        int count = 0;
+        AccessLogEntry entry;
+        while ((entry = buffer.poll()) != null) {
+            log.info(entry.format());
+            written.increment();
+            count++;
+        }
+        return count;
+    }
+
+    private void reportDrops() {
+        long drops = dropped.sum();
+        if (drops != reportedDrops) {
+            log.warn("access_log_dropped count={} total={}", drops - reportedDrops, drops);
+            reportedDrops = drops;
+        }
+    }
+}
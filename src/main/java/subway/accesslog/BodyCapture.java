@@ -0,0 +1,63 @@
+package subway.accesslog;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+class BodyCapture {
+    private static final int INITIAL_CAPACITY = 128;
+
+    private final int limit;
+    private byte[] buffer;
+    private int size;
+    private boolean truncated;
+
+    BodyCapture(int limit) {
+        this.limit = limit;
+    }
+
+    void write(int b) {
+        if (!reserve(1)) {
+            return;
+        }
+        buffer[size++] = (byte) b;
+    }
+
+    void write(byte[] bytes, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        int accepted = Math.min(length, limit - size);
+        if (accepted < length) {
+            truncated = true;
+        }
+        if (accepted <= 0 || !reserve(accepted)) {
+            return;
+        }
+        System.arraycopy(bytes, offset, buffer, size, accepted);
+        size += accepted;
+    }
+
+    // 모든 요청을 감싸므로 본문이 들어올 때만, 들어온 만큼만 버퍼를 늘린다.
+    private boolean reserve(int length) {
+        if (size + length > limit) {
+            truncated = true;
+            return false;
+        }
+        if (buffer == null || size + length > buffer.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, buffer == null ? 0 : buffer.length * 2);
+            while (capacity < size + length) {
+                capacity *= 2;
+            }
+            buffer = Arrays.copyOf(buffer == null ? new byte[0] : buffer, Math.min(limit, capacity));
+        }
+        return true;
+    }
+
+    String asString(Charset charset) {
+        if (size == 0) {
+            return null;
+        }
+        String body = new String(buffer, 0, size, charset);
+        return truncated ? body + "..." : body;
+    }
+}
@@ -0,0 +1,92 @@
+package subway.accesslog;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+class CapturingRequest extends HttpServletRequestWrapper {
+    private final BodyCapture capture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    CapturingRequest(HttpServletRequest request, int maxBodySize) {
+        super(request);
+        this.capture = new BodyCapture(maxBodySize);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CapturingInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+        }
+        return reader;
+    }
+
+    String body() {
+        return capture.asString(charset());
+    }
+
+    private Charset charset() {
+        String contentType = getContentType();
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).contains("charset=")) {
+            return StandardCharsets.UTF_8;
+        }
+        return Charset.forName(getCharacterEncoding());
+    }
+
+    private static class CapturingInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final BodyCapture capture;
+
+        CapturingInputStream(ServletInputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = delegate.read(bytes, offset, length);
+            capture.write(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package subway.accesslog;
+
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+class CapturingResponse extends HttpServletResponseWrapper {
+    private final BodyCapture capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CapturingResponse(HttpServletResponse response, int maxBodySize) {
+        super(response);
+        this.capture = new BodyCapture(maxBodySize);
+    }
+
+    // 압축된 본문은 글자로 읽을 수 없으므로 담지 않는다. 헤더는 본문을 쓰기 전에 정해진다.
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = contentEncoding() == null
+                    ? new CapturingOutputStream(super.getOutputStream(), capture)
+                    : super.getOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    String body() {
+        String contentEncoding = contentEncoding();
+        if (contentEncoding != null) {
+            return "[" + contentEncoding + " 본문 생략]";
+        }
+        return capture.asString(charset());
+    }
+
+    private String contentEncoding() {
+        String contentEncoding = getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding == null || contentEncoding.equalsIgnoreCase("identity")) {
+            return null;
+        }
+        return contentEncoding;
+    }
+
+    private Charset charset() {
+        String contentType = getContentType();
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).contains("charset=")) {
+            return StandardCharsets.UTF_8;
+        }
+        return Charset.forName(getCharacterEncoding());
+    }
+
+    private static class CapturingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+        private final BodyCapture capture;
+
+        CapturingOutputStream(ServletOutputStream delegate, BodyCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package subway.application;
+
+import subway.dto.BulkItemResponse;
+import subway.dto.BulkResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+class BulkImporter<T> {
+    private final int batchSize;
+    private final Function<T, String> nameExtractor;
+    private final Predicate<T> validator;
+    private final Function<Collection<String>, Set<String>> existingNamesFinder;
+    private final Function<List<T>, List<Long>> batchInserter;
+
+    BulkImporter(int batchSize, Function<T, String> nameExtractor, Predicate<T> validator,
+                 Function<Collection<String>, Set<String>> existingNamesFinder, Function<List<T>, List<Long>> batchInserter) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("배치 크기는 0보다 커야 합니다.");
+        }
+        this.batchSize = batchSize;
+        this.nameExtractor = nameExtractor;
+        this.validator = validator;
+        this.existingNamesFinder = existingNamesFinder;
+        this.batchInserter = batchInserter;
+    }
+
+    BulkResponse importAll(Iterator<T> items) {
+        List<BulkItemResponse> results = new ArrayList<>();
+        Set<String> acceptedNames = new HashSet<>();
+        List<T> batch = new ArrayList<>(batchSize);
+        while (items.hasNext()) {
+            batch.add(items.next());
+            if (batch.size() == batchSize) {
+                flush(batch, acceptedNames, results);
+            }
+        }
+        flush(batch, acceptedNames, results);
+        return new BulkResponse(results);
+    }
+
+    private void flush(List<T> batch, Set<String> acceptedNames, List<BulkItemResponse> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int baseIndex = results.size();
+        Set<String> existingNames = existingNamesFinder.apply(batch.stream()
+                .filter(validator)
+                .map(nameExtractor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        BulkItemResponse[] batchResults = new BulkItemResponse[batch.size()];
+        List<T> insertable = new ArrayList<>(batch.size());
+        List<Integer> insertablePositions = new ArrayList<>(batch.size());
+        for (int position = 0; position < batch.size(); position++) {
+            T item = batch.get(position);
+            if (!validator.test(item)) {
+                batchResults[position] = BulkItemResponse.invalid(baseIndex + position);
+                continue;
+            }
+            String name = nameExtractor.apply(item);
+            if (existingNames.contains(name) || !acceptedNames.add(name)) {
+                batchResults[position] = BulkItemResponse.duplicate(baseIndex + position);
+                continue;
+            }
+            insertable.add(item);
+            insertablePositions.add(position);
+        }
+
+        List<Long> ids = batchInserter.apply(insertable);
+        for (int i = 0; i < ids.size(); i++) {
+            int position = insertablePositions.get(i);
+            batchResults[position] = BulkItemResponse.created(baseIndex + position, ids.get(i));
+        }
+        results.addAll(Arrays.asList(batchResults));
+        batch.clear();
+    }
+}
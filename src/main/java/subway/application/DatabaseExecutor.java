@@ -0,0 +1,115 @@
+package subway.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Component
+public class DatabaseExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final LongAdder rejected = new LongAdder();
+
+    public DatabaseExecutor(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                            @Value("${subway.db-executor.queue-capacity:100}") int queueCapacity,
+                            @Value("${subway.db-executor.timeout:3s}") Duration timeout) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, queueOf(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "db-executor-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timeout = timeout;
+    }
+
+    private static BlockingQueue<Runnable> queueOf(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            return new SynchronousQueue<>();
+        }
+        return new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // 제한 시간은 대기열에서 기다리는 시간에만 건다. 이미 시작한 작업은 중간에 버리면 실패로 답한 쓰기가 커밋될 수 있으므로
+    // 끝까지 기다리고, 실행 시간은 JdbcTemplate의 쿼리 제한 시간과 트랜잭션 제한 시간이 DB에서 끊는다.
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        QueuedTask<T> queued = new QueuedTask<>(task);
+        try {
+            executor.execute(queued);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+            if (queued.claim()) {
+                executor.remove(queued);
+                queued.future.completeExceptionally(new TimeoutException("DB 작업이 제한 시간 안에 시작되지 못했습니다."));
+            }
+        });
+        return queued.future;
+    }
+
+    public CompletableFuture<Void> run(Runnable task) {
+        return supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class QueuedTask<T> implements Runnable {
+        private final Supplier<T> task;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        QueuedTask(Supplier<T> task) {
+            this.task = task;
+        }
+
+        // 실행 스레드와 시간 초과 중 먼저 차지한 쪽만 결과를 정한다.
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        @Override
+        public void run() {
+            if (!claim()) {
+                return;
+            }
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package subway.application;
+
+// 이름 중복은 관리 도구의 재시도 등으로 흔히 들어오므로 스택 트레이스를 만들지 않는다.
+public class DuplicateNameException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateNameException(String message) {
+        super(message, null, false, false);
+    }
+}
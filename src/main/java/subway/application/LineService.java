@@ -1,53 +1,171 @@
 package subway.application;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import subway.dao.LineDao;
+import subway.dao.SingleFlight;
+import subway.dao.SingleFlightStats;
 import subway.domain.Line;
+import subway.domain.LineDetail;
+import subway.domain.NetworkChange;
+import subway.domain.NetworkVersion;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.BulkResponse;
+import subway.dto.PageCursor;
+import subway.dto.PageResponse;
 import subway.dto.LineRequest;
 import subway.dto.LineResponse;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class LineService {
     private final LineDao lineDao;
+    private final SubwayNetwork subwayNetwork;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DatabaseExecutor databaseExecutor;
+    private final int bulkBatchSize;
+    private final TransactionTemplate bulkTransaction;
+    private final SingleFlight<Long, Optional<LineResponse>> lineReads = new SingleFlight<>();
 
-    public LineService(LineDao lineDao) {
+    public LineService(LineDao lineDao, SubwayNetwork subwayNetwork, ApplicationEventPublisher eventPublisher,
+                       DatabaseExecutor databaseExecutor, @Value("${subway.bulk.batch-size:500}") int bulkBatchSize,
+                       PlatformTransactionManager transactionManager, @Value("${subway.bulk.timeout:30s}") Duration bulkTimeout) {
         this.lineDao = lineDao;
+        this.subwayNetwork = subwayNetwork;
+        this.eventPublisher = eventPublisher;
+        this.databaseExecutor = databaseExecutor;
+        this.bulkBatchSize = bulkBatchSize;
+        this.bulkTransaction = new TransactionTemplate(transactionManager);
+        this.bulkTransaction.setTimeout(Math.toIntExact(bulkTimeout.toSeconds()));
     }
 
     public LineResponse saveLine(LineRequest request) {
+        validateUniqueName(request.getName(), null);
         Line persistLine = lineDao.insert(new Line(request.getName(), request.getColor()));
-        return LineResponse.of(persistLine);
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofLine(persistLine.getId())));
+        return LineResponse.of(new LineDetail(persistLine, Collections.emptyList()));
     }
 
-    public List<LineResponse> findLineResponses() {
-        List<Line> persistLines = findLines();
-        return persistLines.stream()
+    // 일괄 생성 전체를 한 트랜잭션으로 묶고, 제한 시간이 지나면 DB가 문장을 끊고 롤백한다.
+    public BulkResponse saveLines(Iterator<LineRequest> lineRequests) {
+        return bulkTransaction.execute(status -> {
+            BulkResponse response = new BulkImporter<>(
+                    bulkBatchSize,
+                    LineRequest::getName,
+                    request -> request.getName() != null && !request.getName().isBlank() && request.getColor() != null,
+                    this::findExistingNames,
+                    this::insertLines
+            ).importAll(lineRequests);
+            eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofLines(response.createdIds())));
+            return response;
+        });
+    }
+
+    // 커밋된 쓰기가 모두 스냅샷에 반영됐을 때만 메모리의 이름 색인을 믿는다. 이름을 바꾼 쓰기의 갱신이 아직 끝나지 않았으면
+    // DB에 묻고, 확인한 뒤에 끼어든 쓰기는 DB의 unique 제약이 막는다.
+    private void validateUniqueName(String name, Long lineId) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        if (!subwayNetwork.isCurrent(snapshot)) {
+            return;
+        }
+        Optional<Line> line = snapshot.findLineByName(name);
+        if (line.isPresent() && !line.get().getId().equals(lineId)) {
+            throw new DuplicateNameException("이미 존재하는 노선 이름입니다. name=" + name);
+        }
+    }
+
+    private Set<String> findExistingNames(Collection<String> names) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        if (!subwayNetwork.isCurrent(snapshot)) {
+            return lineDao.findExistingNames(names);
+        }
+        return names.stream()
+                .filter(name -> snapshot.findLineByName(name).isPresent())
+                .collect(Collectors.toSet());
+    }
+
+    private List<Long> insertLines(List<LineRequest> lineRequests) {
+        List<Line> lines = lineRequests.stream()
+                .map(request -> new Line(request.getName(), request.getColor()))
+                .collect(Collectors.toList());
+        return lineDao.insertAll(lines).stream()
+                .map(Line::getId)
+                .collect(Collectors.toList());
+    }
+
+    public PageResponse<LineResponse> findLineResponses(int limit) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        List<LineResponse> lines = snapshot.getLines().stream()
+                .limit(limit + 1L)
+                .map(line -> LineResponse.of(new LineDetail(line, snapshot.findOrderedStationsByLineId(line.getId()))))
+                .collect(Collectors.toList());
+        return PageResponse.of(lines, limit, LineResponse::getId);
+    }
+
+    public PageResponse<LineResponse> findLinePage(String after, int limit) {
+        List<LineResponse> lines = lineDao.findDetailsAfter(PageCursor.decode(after), limit + 1).stream()
                 .map(LineResponse::of)
                 .collect(Collectors.toList());
+        return PageResponse.of(lines, limit, LineResponse::getId);
     }
 
     public List<Line> findLines() {
-        return lineDao.findAll();
+        return subwayNetwork.snapshot().getLines();
+    }
+
+    public void exportLines(Consumer<LineResponse> consumer) {
+        lineDao.exportAll(line -> consumer.accept(LineResponse.of(line)));
+    }
+
+    public NetworkVersion findNetworkVersion() {
+        return subwayNetwork.snapshot().getVersion();
+    }
+
+    public CompletableFuture<Optional<LineResponse>> findLineResponseById(Long id) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        Optional<Line> line = snapshot.findLine(id);
+        if (line.isPresent()) {
+            return CompletableFuture.completedFuture(
+                    Optional.of(LineResponse.of(new LineDetail(line.get(), snapshot.findOrderedStationsByLineId(id)))));
+        }
+        if (subwayNetwork.isCurrent(snapshot)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return lineReads.executeAsync(id, () -> databaseExecutor.supply(() -> lineDao.findDetailById(id).map(LineResponse::of)));
     }
 
-    public LineResponse findLineResponseById(Long id) {
-        Line persistLine = findLineById(id);
-        return LineResponse.of(persistLine);
+    public SingleFlightStats readCoalescingStats() {
+        return lineReads.stats();
     }
 
-    public Line findLineById(Long id) {
+    public Optional<Line> findLineById(Long id) {
         return lineDao.findById(id);
     }
 
     public void updateLine(Long id, LineRequest lineUpdateRequest) {
+        validateUniqueName(lineUpdateRequest.getName(), id);
         lineDao.update(new Line(id, lineUpdateRequest.getName(), lineUpdateRequest.getColor()));
+        lineReads.forget(id);
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofLine(id)));
     }
 
     public void deleteLineById(Long id) {
         lineDao.deleteById(id);
+        lineReads.forget(id);
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofLine(id)));
     }
 
 }
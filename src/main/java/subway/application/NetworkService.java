@@ -0,0 +1,17 @@
+package subway.application;
+
+import org.springframework.stereotype.Service;
+import subway.domain.NetworkDump;
+
+@Service
+public class NetworkService {
+    private final SubwayNetwork subwayNetwork;
+
+    public NetworkService(SubwayNetwork subwayNetwork) {
+        this.subwayNetwork = subwayNetwork;
+    }
+
+    public NetworkDump findDump(Long sinceVersion) {
+        return subwayNetwork.dump(sinceVersion);
+    }
+}
@@ -0,0 +1,119 @@
+package subway.application;
+
+import subway.domain.ShortestPathTree;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.PathBatchItemResponse;
+import subway.dto.PathRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class PathBatch {
+    private static final int WINDOW_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+    private final SubwayNetworkSnapshot snapshot;
+    private final List<PathRequest> requests;
+    private final List<List<Integer>> groups;
+    private final List<Integer> invalidIndexes;
+
+    PathBatch(ForkJoinPool pool, SubwayNetworkSnapshot snapshot, List<PathRequest> requests,
+              List<List<Integer>> groups, List<Integer> invalidIndexes) {
+        this.pool = pool;
+        this.snapshot = snapshot;
+        this.requests = requests;
+        this.groups = groups;
+        this.invalidIndexes = invalidIndexes;
+    }
+
+    // 풀에 맡겨 둔 그룹은 window개를 넘지 않는다. 결과를 하나 꺼낼 때마다 다음 그룹을 맡기므로
+    // 느리게 읽는 쪽이 있어도 쌓이는 결과는 window개까지이고, 읽기를 그만두면 남은 그룹은 탐색하지 않는다.
+    public void run(Consumer<PathBatchItemResponse> consumer) {
+        for (int index : invalidIndexes) {
+            PathRequest request = requests.get(index);
+            consumer.accept(PathBatchItemResponse.invalid(index, request == null ? new PathRequest() : request));
+        }
+        if (groups.isEmpty()) {
+            return;
+        }
+        int window = Math.min(groups.size(), pool.getParallelism() * WINDOW_PER_WORKER);
+        BlockingQueue<List<PathBatchItemResponse>> completed = new ArrayBlockingQueue<>(window);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        int submitted = 0;
+        try {
+            while (submitted < window) {
+                pool.execute(new GroupTask(completed, failure, cancelled, submitted++));
+            }
+            for (int remaining = groups.size(); remaining > 0; remaining--) {
+                List<PathBatchItemResponse> results = completed.take();
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                if (submitted < groups.size()) {
+                    pool.execute(new GroupTask(completed, failure, cancelled, submitted++));
+                }
+                results.forEach(consumer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경로 일괄 조회가 중단되었습니다.", e);
+        } finally {
+            cancelled.set(true);
+        }
+    }
+
+    private List<PathBatchItemResponse> findGroup(List<Integer> indexes) {
+        Long source = requests.get(indexes.get(0)).getSource();
+        ShortestPathTree tree = snapshot.findStation(source).isPresent() ? snapshot.findShortestPathTree(source) : null;
+        List<PathBatchItemResponse> results = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            results.add(find(tree, index, requests.get(index)));
+        }
+        return results;
+    }
+
+    private PathBatchItemResponse find(ShortestPathTree tree, int index, PathRequest request) {
+        if (tree == null || request.getSource().equals(request.getTarget()) || snapshot.findStation(request.getTarget()).isEmpty()) {
+            return PathBatchItemResponse.invalid(index, request);
+        }
+        return tree.findPath(request.getTarget())
+                .map(path -> PathBatchItemResponse.found(index, request, path))
+                .orElseGet(() -> PathBatchItemResponse.notConnected(index, request));
+    }
+
+    private class GroupTask implements Runnable {
+        private final BlockingQueue<List<PathBatchItemResponse>> completed;
+        private final AtomicReference<RuntimeException> failure;
+        private final AtomicBoolean cancelled;
+        private final int group;
+
+        GroupTask(BlockingQueue<List<PathBatchItemResponse>> completed, AtomicReference<RuntimeException> failure,
+                  AtomicBoolean cancelled, int group) {
+            this.completed = completed;
+            this.failure = failure;
+            this.cancelled = cancelled;
+            this.group = group;
+        }
+
+        @Override
+        public void run() {
+            if (cancelled.get()) {
+                return;
+            }
+            try {
+                completed.add(findGroup(groups.get(group)));
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                completed.add(Collections.emptyList());
+            }
+        }
+    }
+}
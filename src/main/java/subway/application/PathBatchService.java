@@ -0,0 +1,51 @@
+package subway.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.PathRequest;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class PathBatchService {
+    private final SubwayNetwork subwayNetwork;
+    private final ForkJoinPool pool;
+    private final int maxPairs;
+
+    public PathBatchService(SubwayNetwork subwayNetwork,
+                            @Value("${subway.path-batch.parallelism:0}") int parallelism,
+                            @Value("${subway.path-batch.max-pairs:100000}") int maxPairs) {
+        this.subwayNetwork = subwayNetwork;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxPairs = maxPairs;
+    }
+
+    public PathBatch prepare(List<PathRequest> requests) {
+        if (requests.size() > maxPairs) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 경로는 " + maxPairs + "개 이하입니다.");
+        }
+        Map<Long, List<Integer>> indexesBySource = new LinkedHashMap<>();
+        List<Integer> invalidIndexes = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            PathRequest request = requests.get(index);
+            if (request == null || request.getSource() == null || request.getTarget() == null) {
+                invalidIndexes.add(index);
+                continue;
+            }
+            indexesBySource.computeIfAbsent(request.getSource(), ignored -> new ArrayList<>()).add(index);
+        }
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        return new PathBatch(pool, snapshot, requests, new ArrayList<>(indexesBySource.values()), invalidIndexes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,141 @@
+package subway.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import subway.dao.CacheStats;
+import subway.dao.EntityCache;
+import subway.dao.SingleFlight;
+import subway.domain.PathCriteria;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.PathLegResponse;
+import subway.dto.PathResponse;
+import subway.dto.StationResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class PathService {
+    // 경로 응답 하나가 차지하는 힙 크기의 어림값(바이트). 정확할 필요는 없고 메모리 예산을 나누는 기준으로만 쓴다.
+    private static final long ENTRY_OVERHEAD = 128;
+    private static final long STATION_OVERHEAD = 64;
+    private static final long LEG_OVERHEAD = 96;
+
+    private final SubwayNetwork subwayNetwork;
+    private final EntityCache<PathKey, List<PathResponse>> pathCache;
+    private final SingleFlight<PathKey, List<PathResponse>> inFlight = new SingleFlight<>();
+
+    public PathService(SubwayNetwork subwayNetwork,
+                       @Value("${subway.cache.path.memory-budget:16MB}") DataSize memoryBudget) {
+        this.subwayNetwork = subwayNetwork;
+        this.pathCache = new EntityCache<>(memoryBudget.toBytes(), Duration.ZERO, (key, paths) -> weigh(paths));
+    }
+
+    public PathResponse findShortestPath(Long sourceStationId, Long targetStationId) {
+        return find(PathKind.SHORTEST, sourceStationId, targetStationId,
+                snapshot -> List.of(PathResponse.of(snapshot.findShortestPath(sourceStationId, targetStationId)))).get(0);
+    }
+
+    public PathResponse findPath(Long sourceStationId, Long targetStationId, PathCriteria criteria) {
+        PathKind kind = criteria == PathCriteria.TRANSFERS ? PathKind.FEWEST_TRANSFERS : PathKind.SHORTEST_DISTANCE;
+        return find(kind, sourceStationId, targetStationId, snapshot -> List.of(
+                PathResponse.of(criteria.select(snapshot.findParetoJourneys(sourceStationId, targetStationId))))).get(0);
+    }
+
+    public List<PathResponse> findParetoPaths(Long sourceStationId, Long targetStationId) {
+        return find(PathKind.PARETO, sourceStationId, targetStationId,
+                snapshot -> snapshot.findParetoJourneys(sourceStationId, targetStationId).stream()
+                        .map(PathResponse::of)
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    // 키에 스냅샷 버전이 들어가므로 노선도가 바뀌면 이전 결과는 더 이상 조회되지 않는다.
+    // 캐시를 통째로 비우지 않고, 이전 버전의 항목은 메모리 예산에 밀려 자연히 빠지게 둔다.
+    private List<PathResponse> find(PathKind kind, Long sourceStationId, Long targetStationId,
+                                    Function<SubwayNetworkSnapshot, List<PathResponse>> search) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        PathKey key = new PathKey(snapshot.getVersion().getValue(), kind, sourceStationId, targetStationId);
+        Optional<List<PathResponse>> cached = pathCache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return inFlight.execute(key, () -> {
+            List<PathResponse> paths = search.apply(snapshot);
+            pathCache.put(key, paths);
+            return paths;
+        });
+    }
+
+    public CacheStats cacheStats() {
+        return pathCache.stats();
+    }
+
+    public long coalescedCount() {
+        return inFlight.stats().getCoalesced();
+    }
+
+    private static long weigh(List<PathResponse> paths) {
+        long weight = ENTRY_OVERHEAD;
+        for (PathResponse path : paths) {
+            weight += weighStations(path.getStations());
+            if (path.getLegs() != null) {
+                for (PathLegResponse leg : path.getLegs()) {
+                    weight += LEG_OVERHEAD + 2L * leg.getLineName().length() + weighStations(leg.getStations());
+                }
+            }
+        }
+        return weight;
+    }
+
+    private static long weighStations(List<StationResponse> stations) {
+        long weight = 0;
+        for (StationResponse station : stations) {
+            weight += STATION_OVERHEAD + 2L * station.getName().length();
+        }
+        return weight;
+    }
+
+    private enum PathKind {
+        SHORTEST,
+        SHORTEST_DISTANCE,
+        FEWEST_TRANSFERS,
+        PARETO
+    }
+
+    private static final class PathKey {
+        private final long version;
+        private final PathKind kind;
+        private final Long sourceStationId;
+        private final Long targetStationId;
+
+        PathKey(long version, PathKind kind, Long sourceStationId, Long targetStationId) {
+            this.version = version;
+            this.kind = kind;
+            this.sourceStationId = sourceStationId;
+            this.targetStationId = targetStationId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PathKey)) return false;
+            PathKey pathKey = (PathKey) o;
+            return version == pathKey.version && kind == pathKey.kind
+                    && Objects.equals(sourceStationId, pathKey.sourceStationId)
+                    && Objects.equals(targetStationId, pathKey.targetStationId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Long.hashCode(version);
+            result = 31 * result + Objects.hashCode(kind);
+            result = 31 * result + Objects.hashCode(sourceStationId);
+            return 31 * result + Objects.hashCode(targetStationId);
+        }
+    }
+}
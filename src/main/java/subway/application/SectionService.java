@@ -0,0 +1,69 @@
+package subway.application;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.dao.LineDao;
+import subway.dao.SectionDao;
+import subway.domain.NetworkChange;
+import subway.domain.Section;
+import subway.domain.Sections;
+import subway.dto.SectionRequest;
+import subway.dto.SectionResponse;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Service
+public class SectionService {
+    private final LineDao lineDao;
+    private final SectionDao sectionDao;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SectionService(LineDao lineDao, SectionDao sectionDao, ApplicationEventPublisher eventPublisher) {
+        this.lineDao = lineDao;
+        this.sectionDao = sectionDao;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public void addSection(Long lineId, SectionRequest request) {
+        lineDao.findById(lineId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 노선입니다. lineId=" + lineId));
+        Section section = new Section(lineId, request.getUpStationId(), request.getDownStationId(), request.getDistance());
+        Sections sections = new Sections(sectionDao.findByLineId(lineId));
+
+        try {
+            sections.findSectionToSplit(section).ifPresent(overlapped -> {
+                sectionDao.deleteById(overlapped.getId());
+                sectionDao.insert(overlapped.subtract(section));
+            });
+            sectionDao.insert(section);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("존재하지 않는 역으로는 구간을 추가할 수 없습니다. upStationId="
+                    + request.getUpStationId() + ", downStationId=" + request.getDownStationId(), e);
+        }
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofLine(lineId)));
+    }
+
+    @Transactional
+    public void removeStation(Long lineId, Long stationId) {
+        Sections sections = new Sections(sectionDao.findByLineId(lineId));
+        Optional<Section> upper = sections.findByDownStationId(stationId);
+        Optional<Section> lower = sections.findByUpStationId(stationId);
+        if (upper.isEmpty() && lower.isEmpty()) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+
+        upper.ifPresent(section -> sectionDao.deleteById(section.getId()));
+        lower.ifPresent(section -> sectionDao.deleteById(section.getId()));
+        if (upper.isPresent() && lower.isPresent()) {
+            sectionDao.insert(upper.get().merge(lower.get()));
+        }
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofLine(lineId)));
+    }
+
+    public void exportSections(Consumer<SectionResponse> consumer) {
+        sectionDao.exportAll(section -> consumer.accept(SectionResponse.of(section)));
+    }
+}
@@ -1,44 +1,191 @@
 package subway.application;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.dao.SingleFlight;
+import subway.dao.SingleFlightStats;
 import subway.dao.StationDao;
+import subway.domain.NetworkChange;
+import subway.domain.NetworkVersion;
+import subway.domain.Reachability;
 import subway.domain.Station;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.BulkResponse;
+import subway.dto.PageCursor;
+import subway.dto.PageResponse;
+import subway.dto.ReachableStationResponse;
 import subway.dto.StationRequest;
 import subway.dto.StationResponse;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class StationService {
     private final StationDao stationDao;
+    private final SubwayNetwork subwayNetwork;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DatabaseExecutor databaseExecutor;
+    private final int bulkBatchSize;
+    private final TransactionTemplate bulkTransaction;
+    private final ThreadLocal<Reachability> reachabilities = ThreadLocal.withInitial(Reachability::new);
+    private final SingleFlight<Long, Optional<StationResponse>> stationReads = new SingleFlight<>();
 
-    public StationService(StationDao stationDao) {
+    public StationService(StationDao stationDao, SubwayNetwork subwayNetwork, ApplicationEventPublisher eventPublisher,
+                          DatabaseExecutor databaseExecutor, @Value("${subway.bulk.batch-size:500}") int bulkBatchSize,
+                          PlatformTransactionManager transactionManager, @Value("${subway.bulk.timeout:30s}") Duration bulkTimeout) {
         this.stationDao = stationDao;
+        this.subwayNetwork = subwayNetwork;
+        this.eventPublisher = eventPublisher;
+        this.databaseExecutor = databaseExecutor;
+        this.bulkBatchSize = bulkBatchSize;
+        this.bulkTransaction = new TransactionTemplate(transactionManager);
+        this.bulkTransaction.setTimeout(Math.toIntExact(bulkTimeout.toSeconds()));
     }
 
     public StationResponse saveStation(StationRequest stationRequest) {
+        validateUniqueName(stationRequest.getName(), null);
         Station station = stationDao.insert(new Station(stationRequest.getName()));
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofStation(station.getId())));
         return StationResponse.of(station);
     }
 
-    public StationResponse findStationResponseById(Long id) {
-        return StationResponse.of(stationDao.findById(id));
+    // 일괄 생성 전체를 한 트랜잭션으로 묶고, 제한 시간이 지나면 DB가 문장을 끊고 롤백한다.
+    public BulkResponse saveStations(Iterator<StationRequest> stationRequests) {
+        return bulkTransaction.execute(status -> {
+            BulkResponse response = new BulkImporter<>(
+                    bulkBatchSize,
+                    StationRequest::getName,
+                    request -> request.getName() != null && !request.getName().isBlank(),
+                    this::findExistingNames,
+                    this::insertStations
+            ).importAll(stationRequests);
+            eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofStations(response.createdIds())));
+            return response;
+        });
     }
 
-    public List<StationResponse> findAllStationResponses() {
-        List<Station> stations = stationDao.findAll();
+    // 커밋된 쓰기가 모두 스냅샷에 반영됐을 때만 메모리의 이름 색인을 믿는다. 이름을 바꾼 쓰기의 갱신이 아직 끝나지 않았으면
+    // DB에 묻고, 확인한 뒤에 끼어든 쓰기는 DB의 unique 제약이 막는다.
+    private void validateUniqueName(String name, Long stationId) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        if (!subwayNetwork.isCurrent(snapshot)) {
+            return;
+        }
+        Optional<Station> station = snapshot.findStationByName(name);
+        if (station.isPresent() && !station.get().getId().equals(stationId)) {
+            throw new DuplicateNameException("이미 존재하는 지하철역 이름입니다. name=" + name);
+        }
+    }
+
+    private Set<String> findExistingNames(Collection<String> names) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        if (!subwayNetwork.isCurrent(snapshot)) {
+            return stationDao.findExistingNames(names);
+        }
+        return names.stream()
+                .filter(name -> snapshot.findStationByName(name).isPresent())
+                .collect(Collectors.toSet());
+    }
+
+    private List<Long> insertStations(List<StationRequest> stationRequests) {
+        List<Station> stations = stationRequests.stream()
+                .map(request -> new Station(request.getName()))
+                .collect(Collectors.toList());
+        return stationDao.insertAll(stations).stream()
+                .map(Station::getId)
+                .collect(Collectors.toList());
+    }
 
-        return stations.stream()
+    public CompletableFuture<Optional<StationResponse>> findStationResponseById(Long id) {
+        SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+        Optional<Station> station = snapshot.findStation(id);
+        if (station.isPresent()) {
+            return CompletableFuture.completedFuture(station.map(StationResponse::of));
+        }
+        if (subwayNetwork.isCurrent(snapshot)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return stationDao.findCachedById(id)
+                .map(cached -> CompletableFuture.completedFuture(Optional.of(StationResponse.of(cached))))
+                .orElseGet(() -> stationReads.executeAsync(id,
+                        () -> databaseExecutor.supply(() -> stationDao.findById(id).map(StationResponse::of))));
+    }
+
+    public SingleFlightStats readCoalescingStats() {
+        return stationReads.stats();
+    }
+
+    public PageResponse<StationResponse> findStationResponses(int limit) {
+        List<StationResponse> stations = subwayNetwork.snapshot().getStations().stream()
+                .limit(limit + 1L)
                 .map(StationResponse::of)
                 .collect(Collectors.toList());
+        return PageResponse.of(stations, limit, StationResponse::getId);
+    }
+
+    public List<StationResponse> searchStations(String prefix, int limit) {
+        return subwayNetwork.snapshot().searchStations(prefix, limit).stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+    }
+
+    public List<ReachableStationResponse> findReachableStations(List<Long> originIds, Integer maxDistance,
+                                                                Integer maxTransfers) {
+        Reachability reachability = reachabilities.get();
+        subwayNetwork.snapshot().findReachable(originIds, orUnbounded(maxDistance), orUnbounded(maxTransfers), reachability);
+        List<ReachableStationResponse> stations = new ArrayList<>(reachability.size());
+        for (int index = 0; index < reachability.size(); index++) {
+            stations.add(ReachableStationResponse.of(reachability, index));
+        }
+        return stations;
+    }
+
+    private int orUnbounded(Integer budget) {
+        return budget == null ? Integer.MAX_VALUE : budget;
+    }
+
+    public PageResponse<StationResponse> findStationPage(String after, int limit) {
+        List<StationResponse> stations = stationDao.findAfter(PageCursor.decode(after), limit + 1).stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return PageResponse.of(stations, limit, StationResponse::getId);
+    }
+
+    public void exportStations(Consumer<StationResponse> consumer) {
+        stationDao.exportAll(station -> consumer.accept(StationResponse.of(station)));
+    }
+
+    public NetworkVersion findNetworkVersion() {
+        return subwayNetwork.snapshot().getVersion();
     }
 
     public void updateStation(Long id, StationRequest stationRequest) {
+        validateUniqueName(stationRequest.getName(), id);
         stationDao.update(new Station(id, stationRequest.getName()));
+        stationReads.forget(id);
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofStation(id)));
     }
 
     public void deleteStationById(Long id) {
-        stationDao.deleteById(id);
+        try {
+            stationDao.deleteById(id);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("구간에 포함된 역은 제거할 수 없습니다. stationId=" + id, e);
+        }
+        stationReads.forget(id);
+        eventPublisher.publishEvent(new SubwayChangedEvent(NetworkChange.ofStation(id)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package subway.application;
+
+import subway.domain.NetworkChange;
+
+public class SubwayChangedEvent {
+    private final NetworkChange change;
+
+    public SubwayChangedEvent(NetworkChange change) {
+        this.change = change;
+    }
+
+    public NetworkChange getChange() {
+        return change;
+    }
+}
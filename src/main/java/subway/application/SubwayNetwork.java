@@ -0,0 +1,90 @@
+package subway.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.dao.DataVersion;
+import subway.domain.NetworkChange;
+import subway.domain.NetworkChangeLog;
+import subway.domain.NetworkDump;
+import subway.domain.SubwayNetworkSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class SubwayNetwork {
+    private static final Logger log = LoggerFactory.getLogger(SubwayNetwork.class);
+    private static final int FULL_REBUILD_THRESHOLD = 256;
+    private static final int CHANGE_LOG_CAPACITY = 1024;
+
+    private final SubwayNetworkLoader loader;
+    private final DataVersion dataVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<SubwayNetworkSnapshot> snapshot;
+    private volatile NetworkChangeLog changeLog;
+
+    public SubwayNetwork(SubwayNetworkLoader loader, DataVersion dataVersion, ApplicationEventPublisher eventPublisher) {
+        this.loader = loader;
+        this.dataVersion = dataVersion;
+        this.eventPublisher = eventPublisher;
+        long version = dataVersion.current();
+        this.snapshot = new AtomicReference<>(loader.loadAll().versioned(version));
+        this.changeLog = NetworkChangeLog.startingAt(version, CHANGE_LOG_CAPACITY);
+    }
+
+    public SubwayNetworkSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    // 발행된 최신 스냅샷이 커밋된 쓰기를 모두 반영했다면 스냅샷에 없는 id는 DB에도 없으므로 DB를 읽지 않고 없다고 답할 수 있다.
+    // 스냅샷 버전은 갱신 순서만 나타내므로, 다른 쓰기의 갱신이 먼저 끝났더라도 반영되지 않은 커밋이 남아 있으면 최신이 아니다.
+    public boolean isCurrent(SubwayNetworkSnapshot snapshot) {
+        return !dataVersion.hasUnappliedCommits() && snapshot == this.snapshot.get();
+    }
+
+    public NetworkDump dump(Long sinceVersion) {
+        SubwayNetworkSnapshot current = snapshot.get();
+        if (sinceVersion == null) {
+            return current.dump();
+        }
+        return changeLog.findChangesSince(sinceVersion, current.getVersion().getValue())
+                .map(change -> current.delta(sinceVersion, change))
+                .orElseGet(current::dump);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void refresh(SubwayChangedEvent event) {
+        List<Long> applied = new ArrayList<>(dataVersion.takeCommittedByCurrentThread());
+        NetworkChange change = event.getChange();
+        SubwayNetworkSnapshot current = snapshot.get();
+        long loadedVersion = dataVersion.current();
+        SubwayNetworkSnapshot loaded = patch(current, change);
+        if (loaded == null) {
+            // 전체를 다시 읽으면 읽기 전에 커밋된 쓰기는 모두 반영된다.
+            applied.addAll(dataVersion.unappliedCommits());
+            loaded = loader.loadAll();
+        }
+        long nextVersion = Math.max(loadedVersion, current.getVersion().getValue() + 1);
+        SubwayNetworkSnapshot next = loaded.versioned(nextVersion);
+        changeLog = changeLog.append(nextVersion, change);
+        snapshot.set(next);
+        dataVersion.markApplied(applied);
+        eventPublisher.publishEvent(new SubwayNetworkRefreshedEvent(next.getVersion()));
+    }
+
+    private SubwayNetworkSnapshot patch(SubwayNetworkSnapshot current, NetworkChange change) {
+        if (change.size() > FULL_REBUILD_THRESHOLD) {
+            return null;
+        }
+        try {
+            return current.apply(loader.loadPatch(current, change));
+        } catch (IllegalStateException e) {
+            log.warn("지하철 네트워크를 부분 갱신하지 못해 전체를 다시 불러옵니다.", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package subway.application;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.dao.LineDao;
+import subway.dao.SectionDao;
+import subway.dao.StationDao;
+import subway.domain.Line;
+import subway.domain.NetworkChange;
+import subway.domain.NetworkPatch;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.SubwayNetworkSnapshot;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Component
+public class SubwayNetworkLoader {
+    private final StationDao stationDao;
+    private final LineDao lineDao;
+    private final SectionDao sectionDao;
+    private final TransactionTemplate readTransaction;
+
+    public SubwayNetworkLoader(StationDao stationDao, LineDao lineDao, SectionDao sectionDao,
+                               PlatformTransactionManager transactionManager) {
+        this.stationDao = stationDao;
+        this.lineDao = lineDao;
+        this.sectionDao = sectionDao;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public SubwayNetworkSnapshot loadAll() {
+        return readTransaction.execute(status -> SubwayNetworkSnapshot.of(
+                stationDao.findAll(),
+                lineDao.findAll(),
+                sectionDao.findAll()
+        ));
+    }
+
+    public NetworkPatch loadPatch(SubwayNetworkSnapshot snapshot, NetworkChange change) {
+        return readTransaction.execute(status -> {
+            List<Line> lines = lineDao.findByIds(change.getLineIds());
+            List<Section> sections = sectionDao.findByLineIds(change.getLineIds());
+
+            Set<Long> stationIds = new HashSet<>(change.getStationIds());
+            sections.stream()
+                    .flatMap(section -> Stream.of(section.getUpStationId(), section.getDownStationId()))
+                    .filter(stationId -> snapshot.findStation(stationId).isEmpty())
+                    .forEach(stationIds::add);
+            List<Station> stations = stationDao.findByIds(stationIds);
+
+            return new NetworkPatch(stationIds, stations, change.getLineIds(), lines, sections);
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package subway.application;
+
+import subway.domain.NetworkVersion;
+
+public class SubwayNetworkRefreshedEvent {
+    private final NetworkVersion version;
+
+    public SubwayNetworkRefreshedEvent(NetworkVersion version) {
+        this.version = version;
+    }
+
+    public NetworkVersion getVersion() {
+        return version;
+    }
+}
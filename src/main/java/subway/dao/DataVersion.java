@@ -0,0 +1,51 @@
+package subway.dao;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class DataVersion {
+    // 기동 시각을 상위 비트에 두어 재시작 이후에도 이전 버전과 겹치지 않게 한다.
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis() << 20);
+    private final Set<Long> unapplied = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<List<Long>> committedByThread = ThreadLocal.withInitial(ArrayList::new);
+
+    public long current() {
+        return version.get();
+    }
+
+    public void bump() {
+        long written = version.incrementAndGet();
+        TransactionCallbacks.afterCommit(() -> {
+            unapplied.add(written);
+            committedByThread.get().add(written);
+        });
+        TransactionCallbacks.afterCompletion(version::incrementAndGet);
+    }
+
+    // 커밋됐지만 아직 스냅샷에 반영되지 않은 쓰기가 있는지. 롤백된 쓰기는 여기에 들어오지 않는다.
+    public boolean hasUnappliedCommits() {
+        return !unapplied.isEmpty();
+    }
+
+    public Collection<Long> unappliedCommits() {
+        return List.copyOf(unapplied);
+    }
+
+    // 스냅샷 갱신은 쓰기를 커밋한 스레드에서 커밋 직후에 실행되므로, 그 스레드가 커밋한 쓰기가 곧 이번 갱신이 반영할 쓰기다.
+    public List<Long> takeCommittedByCurrentThread() {
+        List<Long> committed = committedByThread.get();
+        committedByThread.remove();
+        return committed;
+    }
+
+    public void markApplied(Collection<Long> versions) {
+        unapplied.removeAll(versions);
+    }
+}
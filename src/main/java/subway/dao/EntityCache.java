@@ -0,0 +1,200 @@
+package subway.dao;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+public class EntityCache<K, V> {
+    private static final int MAX_SEGMENT_COUNT = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final long NO_EXPIRATION = Long.MAX_VALUE;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final ToLongBiFunction<K, V> weigher;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public EntityCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, (key, value) -> 1);
+    }
+
+    public EntityCache(long maximumWeight, Duration ttl, ToLongBiFunction<K, V> weigher) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다.");
+        }
+        int segmentCount = (int) Math.min(MAX_SEGMENT_COUNT, Long.highestOneBit(Math.max(1, maximumWeight / MIN_SEGMENT_CAPACITY)));
+        long segmentCapacity = (maximumWeight + segmentCount - 1) / segmentCount;
+        @SuppressWarnings("unchecked")
+        Segment<K, V>[] segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+        this.segments = segments;
+        this.ttlNanos = ttl.isZero() || ttl.isNegative() ? NO_EXPIRATION : ttl.toNanos();
+        this.weigher = weigher;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long generation = invalidations.get();
+        V loaded = loader.apply(key);
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (loaded != null && invalidations.get() == generation) {
+                segment.put(key, entryOf(key, loaded));
+            }
+        }
+        return loaded;
+    }
+
+    public Optional<V> get(K key) {
+        Optional<V> cached = lookup(key);
+        if (cached.isEmpty()) {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    public Optional<V> getIfPresent(K key) {
+        return lookup(key);
+    }
+
+    private Optional<V> lookup(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        Entry<V> entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                segment.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.value);
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, entryOf(key, value));
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            invalidations.incrementAndGet();
+            segment.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Entry<V> entryOf(K key, V value) {
+        return new Entry<>(value, weigher.applyAsLong(key, value), expiresAt());
+    }
+
+    private long expiresAt() {
+        return ttlNanos == NO_EXPIRATION ? NO_EXPIRATION : System.nanoTime() + ttlNanos;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private static class Segment<K, V> {
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long capacity;
+        private final LongAdder evictions;
+        private long weight;
+
+        Segment(long capacity, LongAdder evictions) {
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        Entry<V> get(K key) {
+            return entries.get(key);
+        }
+
+        void put(K key, Entry<V> entry) {
+            if (entry.weight > capacity) {
+                remove(key);
+                return;
+            }
+            Entry<V> previous = entries.put(key, entry);
+            weight += entry.weight - (previous == null ? 0 : previous.weight);
+            Iterator<Entry<V>> eldest = entries.values().iterator();
+            while (weight > capacity) {
+                weight -= eldest.next().weight;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+
+        void remove(K key) {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                weight -= removed.weight;
+            }
+        }
+
+        void clear() {
+            entries.clear();
+            weight = 0;
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+
+        Entry(V value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != NO_EXPIRATION && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package subway.dao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import subway.domain.Station;
+
+import java.time.Duration;
+
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean
+    public EntityCache<Long, Station> stationCache(@Value("${subway.cache.station.maximum-size:10000}") int maximumSize,
+                                                   @Value("${subway.cache.station.ttl:0s}") Duration ttl) {
+        return new EntityCache<>(maximumSize, ttl);
+    }
+}
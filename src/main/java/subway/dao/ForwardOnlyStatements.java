@@ -0,0 +1,49 @@
+package subway.dao;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+final class ForwardOnlyStatements {
+    private static final int FETCH_SIZE = 1000;
+    private static final String H2 = "H2";
+
+    private ForwardOnlyStatements() {
+    }
+
+    // H2는 fetch size를 무시하고 결과 전체를 메모리에 올린 뒤 돌려주므로, 이 연결에서만 지연 실행을 켜고
+    // 끝나면 되돌린다. 데이터소스 URL에 LAZY_QUERY_EXECUTION을 넣지 않아도 내보내기의 메모리 사용량이 일정하다.
+    static void query(JdbcTemplate jdbcTemplate, String sql, RowCallbackHandler rowCallbackHandler) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean lazy = H2.equals(connection.getMetaData().getDatabaseProductName());
+            if (lazy) {
+                setLazyQueryExecution(connection, true);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(FETCH_SIZE);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rowCallbackHandler.processRow(resultSet);
+                    }
+                }
+            } finally {
+                if (lazy) {
+                    setLazyQueryExecution(connection, false);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void setLazyQueryExecution(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + (enabled ? "TRUE" : "FALSE"));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package subway.dao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class JdbcTemplateConfig {
+
+    // 트랜잭션 밖의 문장은 이 시간이 지나면 드라이버가 취소한다. 트랜잭션 안에서는 트랜잭션에 남은 시간이 대신 쓰인다.
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource,
+                                     @Value("${subway.db.statement-timeout:3s}") Duration statementTimeout) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(Math.toIntExact(Math.max(1, statementTimeout.toSeconds())));
+        return jdbcTemplate;
+    }
+}
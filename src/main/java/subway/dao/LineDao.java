@@ -1,61 +1,198 @@
 package subway.dao;
 
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import subway.domain.Line;
+import subway.domain.LineDetail;
+import subway.domain.Section;
+import subway.domain.Station;
 
-import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public class LineDao {
+    private static final String INSERT = "insert into LINE (name, color) values (?, ?)";
+    private static final String FIND_ALL = "select id, name, color from LINE";
+    private static final String FIND_AFTER = "select id, name, color from LINE where id > ? order by id limit ?";
+    private static final String EXPORT_ALL = "select id, name, color from LINE order by id";
+    private static final String FIND_BY_ID = "select id, name, color from LINE where id = ?";
+    private static final String UPDATE = "update LINE set name = ?, color = ? where id = ?";
+    private static final String DELETE_BY_ID = "delete from LINE where id = ?";
+    private static final String DETAIL_COLUMNS =
+            "select l.id, l.name, l.color, s.id, s.up_station_id, s.down_station_id, s.distance, up.name, down.name ";
+    private static final String DETAIL_JOINS = "left join SECTION s on s.line_id = l.id "
+            + "left join STATION up on up.id = s.up_station_id "
+            + "left join STATION down on down.id = s.down_station_id ";
+    private static final String FIND_DETAIL_BY_ID = DETAIL_COLUMNS + "from LINE l " + DETAIL_JOINS + "where l.id = ?";
+    private static final String FIND_DETAILS_AFTER = DETAIL_COLUMNS
+            + "from (select id, name, color from LINE where id > ? order by id limit ?) l " + DETAIL_JOINS + "order by l.id";
+
     private final JdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert insertAction;
+    private final DataVersion dataVersion;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final VersionedListCache<Line> allLines = new VersionedListCache<>();
 
-    private RowMapper<Line> rowMapper = (rs, rowNum) ->
-            new Line(
-                    rs.getLong("id"),
-                    rs.getString("name"),
-                    rs.getString("color")
-            );
+    private final RowMapper<Line> rowMapper = (rs, rowNum) -> new Line(rs.getLong(1), rs.getString(2), rs.getString(3));
 
-    public LineDao(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+    public LineDao(JdbcTemplate jdbcTemplate, DataVersion dataVersion) {
         this.jdbcTemplate = jdbcTemplate;
-        this.insertAction = new SimpleJdbcInsert(dataSource)
-                .withTableName("line")
-                .usingGeneratedKeyColumns("id");
+        this.dataVersion = dataVersion;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        SqlStatements.validateAll(jdbcTemplate, INSERT, FIND_ALL, FIND_AFTER, EXPORT_ALL, FIND_BY_ID, UPDATE, DELETE_BY_ID,
+                FIND_DETAIL_BY_ID, FIND_DETAILS_AFTER);
     }
 
     public Line insert(Line line) {
-        Map<String, Object> params = new HashMap<>();
-        params.put("id", line.getId());
-        params.put("name", line.getName());
-        params.put("color", line.getColor());
-
-        Long lineId = insertAction.executeAndReturnKey(params).longValue();
+        long lineId = jdbcTemplate.execute(SqlStatements.returningId(INSERT), (PreparedStatement statement) -> {
+            statement.setString(1, line.getName());
+            statement.setString(2, line.getColor());
+            statement.executeUpdate();
+            return SqlStatements.generatedId(statement);
+        });
+        dataVersion.bump();
+        TransactionCallbacks.nowAndAfterCompletion(allLines::invalidate);
         return new Line(lineId, line.getName(), line.getColor());
     }
 
+    public List<Line> insertAll(List<Line> lines) {
+        if (lines.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Line> persistLines = jdbcTemplate.execute(
+                SqlStatements.returningId(INSERT),
+                (PreparedStatement statement) -> {
+                    for (Line line : lines) {
+                        statement.setString(1, line.getName());
+                        statement.setString(2, line.getColor());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+
+                    List<Line> inserted = new ArrayList<>(lines.size());
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (Line line : lines) {
+                            keys.next();
+                            inserted.add(new Line(keys.getLong(1), line.getName(), line.getColor()));
+                        }
+                    }
+                    return inserted;
+                });
+        dataVersion.bump();
+        TransactionCallbacks.nowAndAfterCompletion(allLines::invalidate);
+        return persistLines;
+    }
+
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String sql = "select name from LINE where name in (:names)";
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, Map.of("names", names), String.class));
+    }
+
     public List<Line> findAll() {
-        String sql = "select id, name, color from LINE";
-        return jdbcTemplate.query(sql, rowMapper);
+        if (TransactionCallbacks.inTransaction()) {
+            return jdbcTemplate.query(FIND_ALL, rowMapper);
+        }
+        return allLines.get(() -> jdbcTemplate.query(FIND_ALL, rowMapper));
+    }
+
+    public List<Line> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER, statement -> {
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+        }, rowMapper);
+    }
+
+    public void exportAll(Consumer<Line> consumer) {
+        ForwardOnlyStatements.query(jdbcTemplate, EXPORT_ALL,
+                rs -> consumer.accept(new Line(rs.getLong(1), rs.getString(2), rs.getString(3))));
     }
 
-    public Line findById(Long id) {
-        String sql = "select id, name, color from LINE WHERE id = ?";
-        return jdbcTemplate.queryForObject(sql, rowMapper, id);
+    public Optional<Line> findById(Long id) {
+        return Optional.ofNullable(DataAccessUtils.nullableSingleResult(
+                jdbcTemplate.query(FIND_BY_ID, statement -> statement.setLong(1, id), rowMapper)));
+    }
+
+    public Optional<LineDetail> findDetailById(Long id) {
+        return Optional.ofNullable(DataAccessUtils.nullableSingleResult(
+                jdbcTemplate.query(FIND_DETAIL_BY_ID, statement -> statement.setLong(1, id), this::extractDetails)));
+    }
+
+    public List<LineDetail> findDetailsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_DETAILS_AFTER, statement -> {
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+        }, this::extractDetails);
+    }
+
+    private List<LineDetail> extractDetails(ResultSet rs) throws SQLException {
+        Map<Long, Line> lines = new LinkedHashMap<>();
+        Map<Long, List<Section>> sectionsByLineId = new HashMap<>();
+        Map<Long, Station> stationsById = new HashMap<>();
+        while (rs.next()) {
+            long lineId = rs.getLong(1);
+            if (!lines.containsKey(lineId)) {
+                lines.put(lineId, new Line(lineId, rs.getString(2), rs.getString(3)));
+                sectionsByLineId.put(lineId, new ArrayList<>());
+            }
+            long sectionId = rs.getLong(4);
+            if (rs.wasNull()) {
+                continue;
+            }
+            long upStationId = rs.getLong(5);
+            long downStationId = rs.getLong(6);
+            sectionsByLineId.get(lineId).add(new Section(sectionId, lineId, upStationId, downStationId, rs.getInt(7)));
+            stationsById.putIfAbsent(upStationId, new Station(upStationId, rs.getString(8)));
+            stationsById.putIfAbsent(downStationId, new Station(downStationId, rs.getString(9)));
+        }
+        List<LineDetail> details = new ArrayList<>(lines.size());
+        for (Line line : lines.values()) {
+            details.add(LineDetail.of(line, sectionsByLineId.get(line.getId()), stationsById));
+        }
+        return details;
+    }
+
+    public List<Line> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "select id, name, color from LINE where id in (:ids)";
+        return namedParameterJdbcTemplate.query(sql, Map.of("ids", ids), rowMapper);
     }
 
     public void update(Line newLine) {
-        String sql = "update LINE set name = ?, color = ? where id = ?";
-        jdbcTemplate.update(sql, new Object[]{newLine.getName(), newLine.getColor(), newLine.getId()});
+        jdbcTemplate.update(UPDATE, statement -> {
+            statement.setString(1, newLine.getName());
+            statement.setString(2, newLine.getColor());
+            statement.setLong(3, newLine.getId());
+        });
+        invalidate(newLine.getId());
     }
 
     public void deleteById(Long id) {
-        jdbcTemplate.update("delete from Line where id = ?", id);
+        jdbcTemplate.update(DELETE_BY_ID, statement -> statement.setLong(1, id));
+        invalidate(id);
+    }
+
+    private void invalidate(Long id) {
+        dataVersion.bump();
+        TransactionCallbacks.nowAndAfterCompletion(allLines::invalidate);
     }
 }
@@ -0,0 +1,76 @@
+package subway.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import subway.domain.Section;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+public class SectionDao {
+    private static final String INSERT = "insert into SECTION (line_id, up_station_id, down_station_id, distance) values (?, ?, ?, ?)";
+    private static final String FIND_ALL = "select id, line_id, up_station_id, down_station_id, distance from SECTION";
+    private static final String EXPORT_ALL = "select id, line_id, up_station_id, down_station_id, distance from SECTION order by id";
+    private static final String FIND_BY_LINE_ID = "select id, line_id, up_station_id, down_station_id, distance from SECTION where line_id = ?";
+    private static final String DELETE_BY_ID = "delete from SECTION where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataVersion dataVersion;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private final RowMapper<Section> rowMapper = (rs, rowNum) ->
+            new Section(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getInt(5));
+
+    public SectionDao(JdbcTemplate jdbcTemplate, DataVersion dataVersion) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataVersion = dataVersion;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        SqlStatements.validateAll(jdbcTemplate, INSERT, FIND_ALL, EXPORT_ALL, FIND_BY_LINE_ID, DELETE_BY_ID);
+    }
+
+    public Section insert(Section section) {
+        long sectionId = jdbcTemplate.execute(SqlStatements.returningId(INSERT), (PreparedStatement statement) -> {
+            SqlStatements.setId(statement, 1, section.getLineId());
+            SqlStatements.setId(statement, 2, section.getUpStationId());
+            SqlStatements.setId(statement, 3, section.getDownStationId());
+            statement.setInt(4, section.getDistance());
+            statement.executeUpdate();
+            return SqlStatements.generatedId(statement);
+        });
+        dataVersion.bump();
+        return new Section(sectionId, section.getLineId(), section.getUpStationId(), section.getDownStationId(), section.getDistance());
+    }
+
+    public List<Section> findAll() {
+        return jdbcTemplate.query(FIND_ALL, rowMapper);
+    }
+
+    public void exportAll(Consumer<Section> consumer) {
+        ForwardOnlyStatements.query(jdbcTemplate, EXPORT_ALL,
+                rs -> consumer.accept(rowMapper.mapRow(rs, 0)));
+    }
+
+    public List<Section> findByLineId(Long lineId) {
+        return jdbcTemplate.query(FIND_BY_LINE_ID, statement -> statement.setLong(1, lineId), rowMapper);
+    }
+
+    public List<Section> findByLineIds(Collection<Long> lineIds) {
+        if (lineIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "select id, line_id, up_station_id, down_station_id, distance from SECTION where line_id in (:lineIds)";
+        return namedParameterJdbcTemplate.query(sql, Map.of("lineIds", lineIds), rowMapper);
+    }
+
+    public void deleteById(Long id) {
+        jdbcTemplate.update(DELETE_BY_ID, statement -> statement.setLong(1, id));
+        dataVersion.bump();
+    }
+}
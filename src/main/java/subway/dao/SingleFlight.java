@@ -0,0 +1,86 @@
+package subway.dao;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        loads.increment();
+        try {
+            V value = loader.get();
+            inFlight.remove(key, call);
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            failures.increment();
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 합류한 요청은 먼저 시작한 요청의 future를 그대로 나눠 받으므로 제한 시간과 실패도 함께 받는다.
+    // 완료 전에 키를 지워 두어 그 뒤에 들어온 요청은 새로 불러온다.
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        loads.increment();
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        loading.whenComplete((value, failure) -> {
+            inFlight.remove(key, call);
+            if (failure != null) {
+                failures.increment();
+                call.completeExceptionally(failure instanceof CompletionException ? failure.getCause() : failure);
+            } else {
+                call.complete(value);
+            }
+        });
+        return call.copy();
+    }
+
+    // 쓰기 직후에는 쓰기 전에 시작한 조회에 합류하지 않도록 진행 중인 호출을 잊는다.
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public SingleFlightStats stats() {
+        return new SingleFlightStats(loads.sum(), coalesced.sum(), failures.sum());
+    }
+}
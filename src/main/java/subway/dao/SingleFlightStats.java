@@ -0,0 +1,25 @@
+package subway.dao;
+
+public class SingleFlightStats {
+    private final long loads;
+    private final long coalesced;
+    private final long failures;
+
+    public SingleFlightStats(long loads, long coalesced, long failures) {
+        this.loads = loads;
+        this.coalesced = coalesced;
+        this.failures = failures;
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,46 @@
+package subway.dao;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+final class SqlStatements {
+    private static final String[] GENERATED_ID = {"id"};
+
+    private SqlStatements() {
+    }
+
+    // 시작할 때 문장을 한 번씩 준비해 보고 바로 닫는다. 잘못된 SQL을 일찍 드러낼 뿐, 준비된 문장을 남겨 두지는 않는다.
+    static void validateAll(JdbcTemplate jdbcTemplate, String... sqls) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            for (String sql : sqls) {
+                connection.prepareStatement(sql).close();
+            }
+            return null;
+        });
+    }
+
+    static PreparedStatementCreator returningId(String sql) {
+        return connection -> connection.prepareStatement(sql, GENERATED_ID);
+    }
+
+    static void setId(PreparedStatement statement, int index, Long id) throws SQLException {
+        if (id == null) {
+            statement.setNull(index, Types.BIGINT);
+            return;
+        }
+        statement.setLong(index, id);
+    }
+
+    static long generatedId(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+}
@@ -1,58 +1,166 @@
 package subway.dao;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.jdbc.core.RowMapper;
-import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
-import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import subway.domain.Station;
 
-import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public class StationDao {
-    private final JdbcTemplate jdbcTemplate;
-    private final SimpleJdbcInsert insertAction;
+    private static final String INSERT = "insert into STATION (name) values (?)";
+    private static final String FIND_ALL = "select id, name from STATION";
+    private static final String FIND_AFTER = "select id, name from STATION where id > ? order by id limit ?";
+    private static final String EXPORT_ALL = "select id, name from STATION order by id";
+    private static final String FIND_BY_ID = "select id, name from STATION where id = ?";
+    private static final String UPDATE = "update STATION set name = ? where id = ?";
+    private static final String DELETE_BY_ID = "delete from STATION where id = ?";
 
-    private RowMapper<Station> rowMapper = (rs, rowNum) ->
-            new Station(
-                    rs.getLong("id"),
-                    rs.getString("name")
-            );
+    private final JdbcTemplate jdbcTemplate;
+    private final DataVersion dataVersion;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityCache<Long, Station> stationCache;
+    private final VersionedListCache<Station> allStations = new VersionedListCache<>();
 
+    private final RowMapper<Station> rowMapper = (rs, rowNum) -> new Station(rs.getLong(1), rs.getString(2));
 
-    public StationDao(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+    public StationDao(JdbcTemplate jdbcTemplate, DataVersion dataVersion, EntityCache<Long, Station> stationCache) {
         this.jdbcTemplate = jdbcTemplate;
-        this.insertAction = new SimpleJdbcInsert(dataSource)
-                .withTableName("station")
-                .usingGeneratedKeyColumns("id");
+        this.dataVersion = dataVersion;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.stationCache = stationCache;
+        SqlStatements.validateAll(jdbcTemplate, INSERT, FIND_ALL, FIND_AFTER, EXPORT_ALL, FIND_BY_ID, UPDATE, DELETE_BY_ID);
     }
 
     public Station insert(Station station) {
-        SqlParameterSource params = new BeanPropertySqlParameterSource(station);
-        Long id = insertAction.executeAndReturnKey(params).longValue();
-        return new Station(id, station.getName());
+        long id = jdbcTemplate.execute(SqlStatements.returningId(INSERT), (PreparedStatement statement) -> {
+            statement.setString(1, station.getName());
+            statement.executeUpdate();
+            return SqlStatements.generatedId(statement);
+        });
+        dataVersion.bump();
+        Station persistStation = new Station(id, station.getName());
+        TransactionCallbacks.afterCommit(() -> stationCache.put(id, persistStation));
+        TransactionCallbacks.nowAndAfterCompletion(allStations::invalidate);
+        return persistStation;
+    }
+
+    public List<Station> insertAll(List<Station> stations) {
+        if (stations.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Station> persistStations = jdbcTemplate.execute(
+                SqlStatements.returningId(INSERT),
+                (PreparedStatement statement) -> {
+                    for (Station station : stations) {
+                        statement.setString(1, station.getName());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+
+                    List<Station> inserted = new ArrayList<>(stations.size());
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (Station station : stations) {
+                            keys.next();
+                            inserted.add(new Station(keys.getLong(1), station.getName()));
+                        }
+                    }
+                    return inserted;
+                });
+        dataVersion.bump();
+        TransactionCallbacks.nowAndAfterCompletion(allStations::invalidate);
+        return persistStations;
+    }
+
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String sql = "select name from STATION where name in (:names)";
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, Map.of("names", names), String.class));
     }
 
     public List<Station> findAll() {
-        String sql = "select * from STATION";
-        return jdbcTemplate.query(sql, rowMapper);
+        if (TransactionCallbacks.inTransaction()) {
+            return jdbcTemplate.query(FIND_ALL, rowMapper);
+        }
+        return allStations.get(() -> jdbcTemplate.query(FIND_ALL, rowMapper));
+    }
+
+    public List<Station> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER, statement -> {
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+        }, rowMapper);
+    }
+
+    public void exportAll(Consumer<Station> consumer) {
+        ForwardOnlyStatements.query(jdbcTemplate, EXPORT_ALL,
+                rs -> consumer.accept(new Station(rs.getLong(1), rs.getString(2))));
     }
 
-    public Station findById(Long id) {
-        String sql = "select * from STATION where id = ?";
-        return jdbcTemplate.queryForObject(sql, rowMapper, id);
+    public Optional<Station> findById(Long id) {
+        if (TransactionCallbacks.inTransaction()) {
+            return Optional.ofNullable(selectById(id));
+        }
+        return Optional.ofNullable(stationCache.get(id, this::selectById));
+    }
+
+    private Station selectById(long id) {
+        return DataAccessUtils.nullableSingleResult(
+                jdbcTemplate.query(FIND_BY_ID, statement -> statement.setLong(1, id), rowMapper));
+    }
+
+    public Optional<Station> findCachedById(Long id) {
+        if (TransactionCallbacks.inTransaction()) {
+            return Optional.empty();
+        }
+        return stationCache.getIfPresent(id);
+    }
+
+    public List<Station> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "select id, name from STATION where id in (:ids)";
+        return namedParameterJdbcTemplate.query(sql, Map.of("ids", ids), rowMapper);
     }
 
     public void update(Station newStation) {
-        String sql = "update STATION set name = ? where id = ?";
-        jdbcTemplate.update(sql, new Object[]{newStation.getName(), newStation.getId()});
+        jdbcTemplate.update(UPDATE, statement -> {
+            statement.setString(1, newStation.getName());
+            statement.setLong(2, newStation.getId());
+        });
+        invalidate(newStation.getId());
     }
 
     public void deleteById(Long id) {
-        String sql = "delete from STATION where id = ?";
-        jdbcTemplate.update(sql, id);
+        jdbcTemplate.update(DELETE_BY_ID, statement -> statement.setLong(1, id));
+        invalidate(id);
+    }
+
+    public CacheStats cacheStats() {
+        return stationCache.stats();
+    }
+
+    private void invalidate(Long id) {
+        dataVersion.bump();
+        TransactionCallbacks.nowAndAfterCompletion(() -> {
+            stationCache.invalidate(id);
+            allStations.invalidate();
+        });
     }
 }
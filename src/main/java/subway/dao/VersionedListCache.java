@@ -0,0 +1,39 @@
+package subway.dao;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class VersionedListCache<V> {
+    private final AtomicLong version = new AtomicLong();
+    private volatile Versioned<V> cached;
+
+    public List<V> get(Supplier<List<V>> loader) {
+        long currentVersion = version.get();
+        Versioned<V> current = cached;
+        if (current != null && current.version == currentVersion) {
+            return current.values;
+        }
+        List<V> loaded = List.copyOf(loader.get());
+        cached = new Versioned<>(currentVersion, loaded);
+        return loaded;
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    private static class Versioned<V> {
+        private final long version;
+        private final List<V> values;
+
+        Versioned(long version, List<V> values) {
+            this.version = version;
+            this.values = values;
+        }
+    }
+}
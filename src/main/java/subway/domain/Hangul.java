@@ -0,0 +1,94 @@
+package subway.domain;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+final class Hangul {
+    private static final char FIRST_SYLLABLE = '가';
+    private static final char LAST_SYLLABLE = '힣';
+    private static final int FINAL_COUNT = 28;
+    private static final int MEDIAL_COUNT = 21;
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Hangul() {
+    }
+
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    static String initials(String normalized) {
+        char[] initials = normalized.toCharArray();
+        for (int i = 0; i < initials.length; i++) {
+            initials[i] = initialOf(initials[i]);
+        }
+        return new String(initials);
+    }
+
+    static boolean containsInitial(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (isInitial(normalized.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 초성은 초성끼리, 완성된 글자는 그대로 비교한다. 마지막 글자에 받침이 없으면 받침이 붙은 글자도 맞는 것으로 본다.
+    static boolean matchesPrefix(String normalized, String query) {
+        if (normalized.length() < query.length()) {
+            return false;
+        }
+        int last = query.length() - 1;
+        for (int i = 0; i <= last; i++) {
+            char q = query.charAt(i);
+            char c = normalized.charAt(i);
+            if (isInitial(q)) {
+                if (initialOf(c) != q) {
+                    return false;
+                }
+            } else if (i == last && isSyllable(q) && (q - FIRST_SYLLABLE) % FINAL_COUNT == 0) {
+                if (!isSyllable(c) || (c - FIRST_SYLLABLE) / FINAL_COUNT != (q - FIRST_SYLLABLE) / FINAL_COUNT) {
+                    return false;
+                }
+            } else if (c != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String prefixUpperBound(String prefix) {
+        int last = prefix.length() - 1;
+        char c = prefix.charAt(last);
+        if (c == Character.MAX_VALUE) {
+            return null;
+        }
+        char bound = isSyllable(c) && (c - FIRST_SYLLABLE) % FINAL_COUNT == 0 ? (char) (c + FINAL_COUNT) : (char) (c + 1);
+        return prefix.substring(0, last) + bound;
+    }
+
+    private static char initialOf(char c) {
+        return isSyllable(c) ? INITIALS[(c - FIRST_SYLLABLE) / (MEDIAL_COUNT * FINAL_COUNT)] : c;
+    }
+
+    private static boolean isInitial(char c) {
+        return Arrays.binarySearch(INITIALS, c) >= 0;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE;
+    }
+}
@@ -0,0 +1,39 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Journey {
+    private final List<JourneyLeg> legs;
+
+    public Journey(List<JourneyLeg> legs) {
+        if (legs.isEmpty()) {
+            throw new IllegalArgumentException("경로에는 한 번 이상 탑승해야 합니다.");
+        }
+        this.legs = List.copyOf(legs);
+    }
+
+    public List<Station> getStations() {
+        List<Station> stations = new ArrayList<>();
+        stations.add(legs.get(0).getStations().get(0));
+        for (JourneyLeg leg : legs) {
+            List<Station> legStations = leg.getStations();
+            stations.addAll(legStations.subList(1, legStations.size()));
+        }
+        return stations;
+    }
+
+    public int getDistance() {
+        return legs.stream()
+                .mapToInt(JourneyLeg::getDistance)
+                .sum();
+    }
+
+    public int getTransfers() {
+        return legs.size() - 1;
+    }
+
+    public List<JourneyLeg> getLegs() {
+        return legs;
+    }
+}
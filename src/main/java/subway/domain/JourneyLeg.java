@@ -0,0 +1,27 @@
+package subway.domain;
+
+import java.util.List;
+
+public class JourneyLeg {
+    private final Line line;
+    private final List<Station> stations;
+    private final int distance;
+
+    public JourneyLeg(Line line, List<Station> stations, int distance) {
+        this.line = line;
+        this.stations = List.copyOf(stations);
+        this.distance = distance;
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
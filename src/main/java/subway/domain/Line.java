@@ -43,6 +43,6 @@ public class Line {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, color);
+        return 31 * (31 * Objects.hashCode(id) + Objects.hashCode(name)) + Objects.hashCode(color);
     }
 }
@@ -0,0 +1,30 @@
+package subway.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class LineDetail {
+    private final Line line;
+    private final List<Station> stations;
+
+    public LineDetail(Line line, List<Station> stations) {
+        this.line = line;
+        this.stations = List.copyOf(stations);
+    }
+
+    public static LineDetail of(Line line, List<Section> sections, Map<Long, Station> stationsById) {
+        List<Station> stations = new Sections(sections).getOrderedStationIds().stream()
+                .map(stationsById::get)
+                .collect(Collectors.toList());
+        return new LineDetail(line, stations);
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+}
@@ -0,0 +1,318 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class LineRouter {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final StationRegistry registry;
+    private final Station[] stations;
+    private final Line[] lines;
+    // lineStops[line][position] = station, lineOffsets[line][position] = distance from the up terminus
+    private final int[][] lineStops;
+    private final int[][] lineOffsets;
+    // stopLines[station] = {line0, position0, line1, position1, ...}
+    private final int[][] stopLines;
+
+    private LineRouter(StationRegistry registry, Line[] lines, int[][] lineStops, int[][] lineOffsets, int[][] stopLines) {
+        this.registry = registry;
+        this.stations = registry.stations();
+        this.lines = lines;
+        this.lineStops = lineStops;
+        this.lineOffsets = lineOffsets;
+        this.stopLines = stopLines;
+    }
+
+    public static LineRouter of(List<Station> stations, List<Line> lines,
+                                Map<Long, List<Long>> orderedStationIdsByLineId, Map<Long, List<Section>> sectionsByLineId) {
+        return of(StationRegistry.of(stations), lines, orderedStationIdsByLineId, sectionsByLineId);
+    }
+
+    static LineRouter of(StationRegistry registry, List<Line> lines,
+                         Map<Long, List<Long>> orderedStationIdsByLineId, Map<Long, List<Section>> sectionsByLineId) {
+        int stationCount = registry.capacity();
+        List<Line> routedLines = new ArrayList<>();
+        List<int[]> stops = new ArrayList<>();
+        List<int[]> offsets = new ArrayList<>();
+        int[] stopLineCounts = new int[stationCount];
+        for (Line line : lines) {
+            List<Long> orderedStationIds = orderedStationIdsByLineId.getOrDefault(line.getId(), Collections.emptyList());
+            if (orderedStationIds.size() < 2) {
+                continue;
+            }
+            List<Section> sections = sectionsByLineId.get(line.getId());
+            LongIntHashMap distanceByUpStationId = new LongIntHashMap(sections.size());
+            for (Section section : sections) {
+                distanceByUpStationId.put(section.getUpStationId(), section.getDistance());
+            }
+            int[] lineStops = new int[orderedStationIds.size()];
+            int[] lineOffsets = new int[orderedStationIds.size()];
+            for (int position = 0; position < lineStops.length; position++) {
+                lineStops[position] = indexOf(registry, orderedStationIds.get(position));
+                if (position > 0) {
+                    lineOffsets[position] = lineOffsets[position - 1] + distanceByUpStationId.get(orderedStationIds.get(position - 1));
+                }
+                stopLineCounts[lineStops[position]]++;
+            }
+            routedLines.add(line);
+            stops.add(lineStops);
+            offsets.add(lineOffsets);
+        }
+
+        int[][] stopLines = new int[stationCount][];
+        for (int station = 0; station < stopLines.length; station++) {
+            stopLines[station] = new int[stopLineCounts[station] * 2];
+        }
+        int[] cursors = new int[stationCount];
+        for (int line = 0; line < stops.size(); line++) {
+            int[] lineStops = stops.get(line);
+            for (int position = 0; position < lineStops.length; position++) {
+                int station = lineStops[position];
+                stopLines[station][cursors[station]++] = line;
+                stopLines[station][cursors[station]++] = position;
+            }
+        }
+        return new LineRouter(registry, routedLines.toArray(new Line[0]),
+                stops.toArray(new int[0][]), offsets.toArray(new int[0][]), stopLines);
+    }
+
+    private static int indexOf(StationRegistry registry, long stationId) {
+        int index = registry.indexOf(stationId);
+        if (index == StationRegistry.MISSING) {
+            throw new IllegalStateException("노선에 등록되지 않은 역이 포함되어 있습니다. stationId=" + stationId);
+        }
+        return index;
+    }
+
+    public List<Journey> findParetoJourneys(Long sourceStationId, Long targetStationId) {
+        int source = findIndex(sourceStationId);
+        int target = findIndex(targetStationId);
+        if (source == target) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        Arrivals arrivals = new Arrivals(stations.length, source);
+        int[] previousLabels = arrivals.best.clone();
+        boolean[] marked = new boolean[stations.length];
+        marked[source] = true;
+        boolean[] scanned = new boolean[lines.length];
+        List<Journey> journeys = new ArrayList<>();
+        for (int round = 1; round <= lines.length; round++) {
+            boolean[] nextMarked = new boolean[stations.length];
+            Arrays.fill(scanned, false);
+            boolean improved = false;
+            for (int station = 0; station < marked.length; station++) {
+                if (!marked[station]) {
+                    continue;
+                }
+                int[] servedLines = stopLines[station];
+                for (int i = 0; i < servedLines.length; i += 2) {
+                    int line = servedLines[i];
+                    if (scanned[line]) {
+                        continue;
+                    }
+                    scanned[line] = true;
+                    improved |= scan(round, line, true, previousLabels, arrivals, target, nextMarked);
+                    improved |= scan(round, line, false, previousLabels, arrivals, target, nextMarked);
+                }
+            }
+            if (!improved) {
+                break;
+            }
+            if (arrivals.best[target] < previousLabels[target]) {
+                journeys.add(trace(arrivals, round, source, target));
+            }
+            previousLabels = arrivals.best.clone();
+            marked = nextMarked;
+        }
+
+        if (journeys.isEmpty()) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return journeys;
+    }
+
+    public void findReachable(Collection<Long> originStationIds, int maxDistance, int maxTransfers,
+                              Reachability reachability) {
+        if (originStationIds.isEmpty()) {
+            throw new IllegalArgumentException("출발역을 하나 이상 지정해야 합니다.");
+        }
+        if (maxDistance < 0 || maxTransfers < 0) {
+            throw new IllegalArgumentException("탐색 범위는 0 이상이어야 합니다.");
+        }
+        int[] origins = new int[originStationIds.size()];
+        int count = 0;
+        for (Long originStationId : originStationIds) {
+            origins[count++] = findIndex(originStationId);
+        }
+
+        reachability.reset(stations, lines.length);
+        for (int origin : origins) {
+            if (reachability.firstRound[origin] == Reachability.NONE) {
+                reachability.reach(origin, 0, 0);
+                reachability.markNext(origin);
+            }
+        }
+        int maxRounds = (int) Math.min((long) maxTransfers + 1, lines.length);
+        for (int round = 1; round <= maxRounds && reachability.advance(); round++) {
+            int stamp = ++reachability.scanStamp;
+            for (int i = 0; i < reachability.markedCount; i++) {
+                int[] servedLines = stopLines[reachability.markedStations[i]];
+                for (int j = 0; j < servedLines.length; j += 2) {
+                    int line = servedLines[j];
+                    if (reachability.scannedLines[line] == stamp) {
+                        continue;
+                    }
+                    reachability.scannedLines[line] = stamp;
+                    scanReachable(round, line, true, maxDistance, reachability);
+                    scanReachable(round, line, false, maxDistance, reachability);
+                }
+            }
+        }
+        reachability.collect();
+    }
+
+    private void scanReachable(int round, int line, boolean downward, int maxDistance, Reachability reachability) {
+        int[] stops = lineStops[line];
+        int[] offsets = lineOffsets[line];
+        int direction = downward ? 1 : -1;
+        int boarded = UNREACHABLE;
+        boolean onBoard = false;
+        for (int position = downward ? 0 : stops.length - 1; position >= 0 && position < stops.length; position += direction) {
+            int station = stops[position];
+            int offset = offsets[position] * direction;
+            if (onBoard) {
+                int arrival = boarded + offset;
+                if (arrival <= maxDistance && arrival < reachability.best[station]) {
+                    reachability.reach(station, arrival, round);
+                    reachability.markNext(station);
+                }
+            }
+            int label = reachability.roundStart[station];
+            if (label != UNREACHABLE && (!onBoard || label - offset < boarded)) {
+                boarded = label - offset;
+                onBoard = true;
+            }
+        }
+    }
+
+    private int findIndex(Long stationId) {
+        int index = stationId == null ? StationRegistry.MISSING : registry.indexOf(stationId);
+        if (index == StationRegistry.MISSING) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다. stationId=" + stationId);
+        }
+        return index;
+    }
+
+    private boolean scan(int round, int line, boolean downward, int[] previousLabels, Arrivals arrivals, int target,
+                         boolean[] marked) {
+        int[] stops = lineStops[line];
+        int[] offsets = lineOffsets[line];
+        int direction = downward ? 1 : -1;
+        int boarded = UNREACHABLE;
+        int boardPosition = NONE;
+        boolean improved = false;
+        for (int position = downward ? 0 : stops.length - 1; position >= 0 && position < stops.length; position += direction) {
+            int station = stops[position];
+            int offset = offsets[position] * direction;
+            if (boardPosition != NONE) {
+                int arrival = boarded + offset;
+                if (arrival < arrivals.best[station] && arrival < arrivals.best[target]) {
+                    arrivals.add(station, arrival, round, line, boardPosition, position);
+                    marked[station] = true;
+                    improved = true;
+                }
+            }
+            int label = previousLabels[station];
+            if (label != UNREACHABLE && (boardPosition == NONE || label - offset < boarded)) {
+                boarded = label - offset;
+                boardPosition = position;
+            }
+        }
+        return improved;
+    }
+
+    private Journey trace(Arrivals arrivals, int round, int source, int target) {
+        List<JourneyLeg> legs = new ArrayList<>();
+        int station = target;
+        while (station != source) {
+            int arrival = arrivals.latest(station, round);
+            int line = arrivals.lines[arrival];
+            int boardPosition = arrivals.boardPositions[arrival];
+            legs.add(leg(line, boardPosition, arrivals.alightPositions[arrival]));
+            station = lineStops[line][boardPosition];
+            round = arrivals.rounds[arrival] - 1;
+        }
+        Collections.reverse(legs);
+        return new Journey(legs);
+    }
+
+    private JourneyLeg leg(int line, int boardPosition, int alightPosition) {
+        int direction = boardPosition < alightPosition ? 1 : -1;
+        List<Station> legStations = new ArrayList<>(Math.abs(alightPosition - boardPosition) + 1);
+        for (int position = boardPosition; position != alightPosition + direction; position += direction) {
+            legStations.add(stations[lineStops[line][position]]);
+        }
+        int distance = Math.abs(lineOffsets[line][alightPosition] - lineOffsets[line][boardPosition]);
+        return new JourneyLeg(lines[line], legStations, distance);
+    }
+
+    // 역의 도착 거리가 갱신될 때마다 최신 기록을 앞에 두고 모두 남겨, k번째 라운드에서 찾은 경로를
+    // 이전 라운드들이 실제로 탑승한 기록을 따라 거슬러 올라갈 수 있게 한다.
+    private static final class Arrivals {
+        private final int[] best;
+        private final int[] latest;
+        private int[] previous;
+        private int[] rounds;
+        private int[] lines;
+        private int[] boardPositions;
+        private int[] alightPositions;
+        private int size;
+
+        Arrivals(int stationCount, int source) {
+            best = new int[stationCount];
+            latest = new int[stationCount];
+            Arrays.fill(best, UNREACHABLE);
+            Arrays.fill(latest, NONE);
+            best[source] = 0;
+            int capacity = Math.max(stationCount, 16);
+            previous = new int[capacity];
+            rounds = new int[capacity];
+            lines = new int[capacity];
+            boardPositions = new int[capacity];
+            alightPositions = new int[capacity];
+        }
+
+        void add(int station, int arrival, int round, int line, int boardPosition, int alightPosition) {
+            if (size == rounds.length) {
+                int capacity = size * 2;
+                previous = Arrays.copyOf(previous, capacity);
+                rounds = Arrays.copyOf(rounds, capacity);
+                lines = Arrays.copyOf(lines, capacity);
+                boardPositions = Arrays.copyOf(boardPositions, capacity);
+                alightPositions = Arrays.copyOf(alightPositions, capacity);
+            }
+            best[station] = arrival;
+            previous[size] = latest[station];
+            rounds[size] = round;
+            lines[size] = line;
+            boardPositions[size] = boardPosition;
+            alightPositions[size] = alightPosition;
+            latest[station] = size++;
+        }
+
+        int latest(int station, int round) {
+            int arrival = latest[station];
+            while (rounds[arrival] > round) {
+                arrival = previous[arrival];
+            }
+            return arrival;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package subway.domain;
+
+// long 키를 박싱 없이 0 이상의 int 값에 잇는 선형 탐사 해시 맵. 빈 칸은 키 0으로 표시하고 실제 키 0은 따로 둔다.
+final class LongIntHashMap {
+    static final int MISSING = -1;
+
+    private static final long EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int zeroValue = MISSING;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private LongIntHashMap(LongIntHashMap source) {
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.mask = source.mask;
+        this.size = source.size;
+        this.zeroValue = source.zeroValue;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        // 채움 비율을 1/2 이하로 유지해 탐사 길이를 짧게 둔다.
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+    }
+
+    int get(long key) {
+        if (key == EMPTY) {
+            return zeroValue;
+        }
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            long candidate = keys[slot];
+            if (candidate == key) {
+                return values[slot];
+            }
+            if (candidate == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    boolean containsKey(long key) {
+        return get(key) != MISSING;
+    }
+
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("값은 0 이상이어야 합니다. value=" + value);
+        }
+        if (key == EMPTY) {
+            if (zeroValue == MISSING) {
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+    }
+
+    int remove(long key) {
+        if (key == EMPTY) {
+            int removed = zeroValue;
+            if (removed != MISSING) {
+                zeroValue = MISSING;
+                size--;
+            }
+            return removed;
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != key) {
+            if (keys[slot] == EMPTY) {
+                return MISSING;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int removed = values[slot];
+        // 뒤따르는 같은 묶음의 키를 빈 칸으로 당겨 와서 삭제 표시 없이 탐사가 끊기지 않게 한다.
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = slotOf(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    LongIntHashMap copy() {
+        return new LongIntHashMap(this);
+    }
+
+    private void resize(int capacity) {
+        long[] previousKeys = keys;
+        int[] previousValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < previousKeys.length; i++) {
+            long key = previousKeys[i];
+            if (key != EMPTY) {
+                int slot = slotOf(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = previousValues[i];
+            }
+        }
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
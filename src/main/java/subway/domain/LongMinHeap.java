@@ -0,0 +1,56 @@
+package subway.domain;
+
+import java.util.Arrays;
+
+class LongMinHeap {
+    private long[] values;
+    private int size;
+
+    LongMinHeap(int capacity) {
+        this.values = new long[Math.max(capacity, 1)];
+    }
+
+    void push(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (values[parent] <= value) {
+                break;
+            }
+            values[index] = values[parent];
+            index = parent;
+        }
+        values[index] = value;
+    }
+
+    long pop() {
+        long top = values[0];
+        long last = values[--size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (last <= values[child]) {
+                break;
+            }
+            values[index] = values[child];
+            index = child;
+        }
+        values[index] = last;
+        return top;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
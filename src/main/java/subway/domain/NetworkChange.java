@@ -0,0 +1,54 @@
+package subway.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class NetworkChange {
+    private final Set<Long> stationIds;
+    private final Set<Long> lineIds;
+
+    private NetworkChange(Collection<Long> stationIds, Collection<Long> lineIds) {
+        this.stationIds = Set.copyOf(stationIds);
+        this.lineIds = Set.copyOf(lineIds);
+    }
+
+    public static NetworkChange ofStation(Long stationId) {
+        return ofStations(Collections.singleton(stationId));
+    }
+
+    public static NetworkChange ofStations(Collection<Long> stationIds) {
+        return new NetworkChange(stationIds, Collections.emptySet());
+    }
+
+    public static NetworkChange ofLine(Long lineId) {
+        return ofLines(Collections.singleton(lineId));
+    }
+
+    public static NetworkChange ofLines(Collection<Long> lineIds) {
+        return new NetworkChange(Collections.emptySet(), lineIds);
+    }
+
+    public static NetworkChange merge(Collection<NetworkChange> changes) {
+        Set<Long> stationIds = new HashSet<>();
+        Set<Long> lineIds = new HashSet<>();
+        for (NetworkChange change : changes) {
+            stationIds.addAll(change.stationIds);
+            lineIds.addAll(change.lineIds);
+        }
+        return new NetworkChange(stationIds, lineIds);
+    }
+
+    public int size() {
+        return stationIds.size() + lineIds.size();
+    }
+
+    public Set<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public Set<Long> getLineIds() {
+        return lineIds;
+    }
+}
@@ -0,0 +1,60 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class NetworkChangeLog {
+    private final int capacity;
+    private final long floorVersion;
+    private final List<Entry> entries;
+
+    private NetworkChangeLog(int capacity, long floorVersion, List<Entry> entries) {
+        this.capacity = capacity;
+        this.floorVersion = floorVersion;
+        this.entries = entries;
+    }
+
+    public static NetworkChangeLog startingAt(long version, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("변경 기록은 하나 이상 보관해야 합니다.");
+        }
+        return new NetworkChangeLog(capacity, version, Collections.emptyList());
+    }
+
+    public NetworkChangeLog append(long version, NetworkChange change) {
+        List<Entry> next = new ArrayList<>(Math.min(entries.size() + 1, capacity));
+        long nextFloorVersion = floorVersion;
+        int dropped = Math.max(0, entries.size() + 1 - capacity);
+        if (dropped > 0) {
+            nextFloorVersion = entries.get(dropped - 1).version;
+        }
+        next.addAll(entries.subList(dropped, entries.size()));
+        next.add(new Entry(version, change));
+        return new NetworkChangeLog(capacity, nextFloorVersion, Collections.unmodifiableList(next));
+    }
+
+    public Optional<NetworkChange> findChangesSince(long sinceVersion, long untilVersion) {
+        if (sinceVersion < floorVersion || sinceVersion > untilVersion) {
+            return Optional.empty();
+        }
+        List<NetworkChange> changes = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.version > sinceVersion && entry.version <= untilVersion) {
+                changes.add(entry.change);
+            }
+        }
+        return Optional.of(NetworkChange.merge(changes));
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final NetworkChange change;
+
+        Entry(long version, NetworkChange change) {
+            this.version = version;
+            this.change = change;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package subway.domain;
+
+import java.util.Collections;
+import java.util.List;
+
+public class NetworkDump {
+    private final boolean full;
+    private final long version;
+    private final Long sinceVersion;
+    private final List<Station> stations;
+    private final List<Long> removedStationIds;
+    private final List<Line> lines;
+    private final List<Section> sections;
+    private final List<Long> removedLineIds;
+
+    private NetworkDump(boolean full, long version, Long sinceVersion, List<Station> stations, List<Long> removedStationIds,
+                        List<Line> lines, List<Section> sections, List<Long> removedLineIds) {
+        this.full = full;
+        this.version = version;
+        this.sinceVersion = sinceVersion;
+        this.stations = stations;
+        this.removedStationIds = removedStationIds;
+        this.lines = lines;
+        this.sections = sections;
+        this.removedLineIds = removedLineIds;
+    }
+
+    public static NetworkDump full(long version, List<Station> stations, List<Line> lines, List<Section> sections) {
+        return new NetworkDump(true, version, null, stations, Collections.emptyList(), lines, sections, Collections.emptyList());
+    }
+
+    public static NetworkDump delta(long version, long sinceVersion, List<Station> stations, List<Long> removedStationIds,
+                                    List<Line> lines, List<Section> sections, List<Long> removedLineIds) {
+        return new NetworkDump(false, version, sinceVersion, stations, removedStationIds, lines, sections, removedLineIds);
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Long getSinceVersion() {
+        return sinceVersion;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Long> getRemovedStationIds() {
+        return removedStationIds;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public List<Long> getRemovedLineIds() {
+        return removedLineIds;
+    }
+}
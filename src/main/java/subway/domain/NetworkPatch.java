@@ -0,0 +1,51 @@
+package subway.domain;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class NetworkPatch {
+    private final Set<Long> stationIds;
+    private final Map<Long, Station> stations;
+    private final Set<Long> lineIds;
+    private final Map<Long, Line> lines;
+    private final Map<Long, List<Section>> sectionsByLineId;
+
+    public NetworkPatch(Collection<Long> stationIds, List<Station> stations,
+                        Collection<Long> lineIds, List<Line> lines, List<Section> sections) {
+        this.stationIds = Collections.unmodifiableSet(new TreeSet<>(stationIds));
+        this.stations = stations.stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        this.lineIds = Collections.unmodifiableSet(new TreeSet<>(lineIds));
+        this.lines = lines.stream()
+                .collect(Collectors.toMap(Line::getId, Function.identity()));
+        this.sectionsByLineId = sections.stream()
+                .collect(Collectors.groupingBy(Section::getLineId));
+    }
+
+    public Set<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public Optional<Station> findStation(Long stationId) {
+        return Optional.ofNullable(stations.get(stationId));
+    }
+
+    public Set<Long> getLineIds() {
+        return lineIds;
+    }
+
+    public Optional<Line> findLine(Long lineId) {
+        return Optional.ofNullable(lines.get(lineId));
+    }
+
+    public List<Section> findSectionsByLineId(Long lineId) {
+        return sectionsByLineId.getOrDefault(lineId, Collections.emptyList());
+    }
+}
@@ -0,0 +1,34 @@
+package subway.domain;
+
+import java.util.Objects;
+
+public class NetworkVersion {
+    private final long value;
+    private final long publishedAt;
+
+    public NetworkVersion(long value, long publishedAt) {
+        this.value = value;
+        this.publishedAt = publishedAt;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public long getPublishedAt() {
+        return publishedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NetworkVersion that = (NetworkVersion) o;
+        return value == that.value && publishedAt == that.publishedAt;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, publishedAt);
+    }
+}
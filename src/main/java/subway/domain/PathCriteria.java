@@ -0,0 +1,24 @@
+package subway.domain;
+
+import java.util.List;
+import java.util.Locale;
+
+public enum PathCriteria {
+    DISTANCE,
+    TRANSFERS;
+
+    public static PathCriteria from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 경로 기준입니다. criteria=" + value);
+        }
+    }
+
+    public Journey select(List<Journey> paretoJourneys) {
+        if (this == TRANSFERS) {
+            return paretoJourneys.get(0);
+        }
+        return paretoJourneys.get(paretoJourneys.size() - 1);
+    }
+}
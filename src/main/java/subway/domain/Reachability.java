@@ -0,0 +1,133 @@
+package subway.domain;
+
+import java.util.Arrays;
+
+// LineRouter#findReachable의 작업 공간이자 결과. 한 스레드가 계속 재사용하므로 배열은 커지기만 하고,
+// 직전 탐색이 건드린 역만 되돌려 초기화한다.
+public class Reachability {
+    static final int UNREACHED = Integer.MAX_VALUE;
+    static final int NONE = -1;
+
+    int[] best = new int[0];
+    int[] roundStart = new int[0];
+    int[] firstRound = new int[0];
+    boolean[] marked = new boolean[0];
+    int[] markedStations = new int[0];
+    int markedCount;
+    boolean[] nextMarked = new boolean[0];
+    int[] nextMarkedStations = new int[0];
+    int nextMarkedCount;
+    int[] touched = new int[0];
+    int touchedCount;
+    int[] scannedLines = new int[0];
+    int scanStamp;
+
+    private long[] results = new long[0];
+    private int size;
+    private Station[] stations;
+
+    void reset(Station[] stations, int lineCount) {
+        clearMarks();
+        int stationCount = stations.length;
+        if (best.length < stationCount) {
+            best = new int[stationCount];
+            roundStart = new int[stationCount];
+            firstRound = new int[stationCount];
+            marked = new boolean[stationCount];
+            markedStations = new int[stationCount];
+            nextMarked = new boolean[stationCount];
+            nextMarkedStations = new int[stationCount];
+            touched = new int[stationCount];
+            results = new long[stationCount];
+            Arrays.fill(best, UNREACHED);
+            Arrays.fill(roundStart, UNREACHED);
+            Arrays.fill(firstRound, NONE);
+        } else {
+            for (int i = 0; i < touchedCount; i++) {
+                int station = touched[i];
+                best[station] = UNREACHED;
+                roundStart[station] = UNREACHED;
+                firstRound[station] = NONE;
+            }
+        }
+        if (scannedLines.length < lineCount) {
+            scannedLines = new int[lineCount];
+            scanStamp = 0;
+        }
+        touchedCount = 0;
+        size = 0;
+        this.stations = stations;
+    }
+
+    void reach(int station, int distance, int round) {
+        if (firstRound[station] == NONE) {
+            firstRound[station] = round;
+            touched[touchedCount++] = station;
+        }
+        best[station] = distance;
+    }
+
+    void markNext(int station) {
+        if (!nextMarked[station]) {
+            nextMarked[station] = true;
+            nextMarkedStations[nextMarkedCount++] = station;
+        }
+    }
+
+    boolean advance() {
+        for (int i = 0; i < nextMarkedCount; i++) {
+            int station = nextMarkedStations[i];
+            roundStart[station] = best[station];
+        }
+        for (int i = 0; i < markedCount; i++) {
+            marked[markedStations[i]] = false;
+        }
+        boolean[] flags = marked;
+        marked = nextMarked;
+        nextMarked = flags;
+        int[] stations = markedStations;
+        markedStations = nextMarkedStations;
+        nextMarkedStations = stations;
+        markedCount = nextMarkedCount;
+        nextMarkedCount = 0;
+        return markedCount > 0;
+    }
+
+    private void clearMarks() {
+        for (int i = 0; i < markedCount; i++) {
+            marked[markedStations[i]] = false;
+        }
+        for (int i = 0; i < nextMarkedCount; i++) {
+            nextMarked[nextMarkedStations[i]] = false;
+        }
+        markedCount = 0;
+        nextMarkedCount = 0;
+    }
+
+    void collect() {
+        size = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int station = touched[i];
+            if (firstRound[station] > 0) {
+                results[size++] = ((long) best[station] << 32) | station;
+            }
+        }
+        Arrays.sort(results, 0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Station getStation(int index) {
+        return stations[(int) results[index]];
+    }
+
+    public int getDistance(int index) {
+        return (int) (results[index] >>> 32);
+    }
+
+    public int getTransfers(int index) {
+        return firstRound[(int) results[index]] - 1;
+    }
+}
@@ -0,0 +1,84 @@
+package subway.domain;
+
+import java.util.Objects;
+
+public class Section {
+    private Long id;
+    private Long lineId;
+    private Long upStationId;
+    private Long downStationId;
+    private int distance;
+
+    public Section() {
+    }
+
+    public Section(Long lineId, Long upStationId, Long downStationId, int distance) {
+        this(null, lineId, upStationId, downStationId, distance);
+    }
+
+    public Section(Long id, Long lineId, Long upStationId, Long downStationId, int distance) {
+        if (Objects.equals(upStationId, downStationId)) {
+            throw new IllegalArgumentException("상행역과 하행역은 같을 수 없습니다.");
+        }
+        if (distance <= 0) {
+            throw new IllegalArgumentException("구간 거리는 0보다 커야 합니다.");
+        }
+        this.id = id;
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public Section subtract(Section inner) {
+        if (inner.distance >= distance) {
+            throw new IllegalArgumentException("기존 구간보다 짧은 구간만 추가할 수 있습니다.");
+        }
+        if (upStationId.equals(inner.upStationId)) {
+            return new Section(lineId, inner.downStationId, downStationId, distance - inner.distance);
+        }
+        return new Section(lineId, upStationId, inner.upStationId, distance - inner.distance);
+    }
+
+    public Section merge(Section lower) {
+        return new Section(lineId, upStationId, lower.downStationId, distance + lower.distance);
+    }
+
+    public boolean hasStation(Long stationId) {
+        return upStationId.equals(stationId) || downStationId.equals(stationId);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Section section = (Section) o;
+        return distance == section.distance && Objects.equals(id, section.id) && Objects.equals(lineId, section.lineId)
+                && Objects.equals(upStationId, section.upStationId) && Objects.equals(downStationId, section.downStationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, lineId, upStationId, downStationId, distance);
+    }
+}
@@ -0,0 +1,83 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class Sections {
+    private final List<Section> sections;
+
+    public Sections(List<Section> sections) {
+        this.sections = new ArrayList<>(sections);
+    }
+
+    public Optional<Section> findSectionToSplit(Section section) {
+        if (sections.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean hasUpStation = contains(section.getUpStationId());
+        boolean hasDownStation = contains(section.getDownStationId());
+        if (hasUpStation && hasDownStation) {
+            throw new IllegalArgumentException("이미 노선에 등록된 역들입니다.");
+        }
+        if (!hasUpStation && !hasDownStation) {
+            throw new IllegalArgumentException("노선에 연결할 수 없는 구간입니다.");
+        }
+        if (hasUpStation) {
+            return findByUpStationId(section.getUpStationId());
+        }
+        return findByDownStationId(section.getDownStationId());
+    }
+
+    public Optional<Section> findByUpStationId(Long stationId) {
+        return sections.stream()
+                .filter(section -> section.getUpStationId().equals(stationId))
+                .findAny();
+    }
+
+    public Optional<Section> findByDownStationId(Long stationId) {
+        return sections.stream()
+                .filter(section -> section.getDownStationId().equals(stationId))
+                .findAny();
+    }
+
+    public boolean contains(Long stationId) {
+        return sections.stream()
+                .anyMatch(section -> section.hasStation(stationId));
+    }
+
+    public List<Long> getOrderedStationIds() {
+        if (sections.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Section> sectionByUpStationId = new HashMap<>();
+        Set<Long> downStationIds = new HashSet<>();
+        for (Section section : sections) {
+            sectionByUpStationId.put(section.getUpStationId(), section);
+            downStationIds.add(section.getDownStationId());
+        }
+        Long current = sections.stream()
+                .map(Section::getUpStationId)
+                .filter(stationId -> !downStationIds.contains(stationId))
+                .findAny()
+                .orElseThrow(() -> new IllegalStateException("노선의 상행 종점을 찾을 수 없습니다."));
+
+        List<Long> orderedStationIds = new ArrayList<>(sections.size() + 1);
+        orderedStationIds.add(current);
+        Section next;
+        while ((next = sectionByUpStationId.get(current)) != null) {
+            current = next.getDownStationId();
+            orderedStationIds.add(current);
+        }
+        return orderedStationIds;
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+}
@@ -0,0 +1,21 @@
+package subway.domain;
+
+import java.util.Optional;
+
+public class ShortestPathTree {
+    private final SubwayGraph graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] previous;
+
+    ShortestPathTree(SubwayGraph graph, int source, int[] distances, int[] previous) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.previous = previous;
+    }
+
+    public Optional<ShortestPath> findPath(Long targetStationId) {
+        return graph.findPathInTree(source, distances, previous, targetStationId);
+    }
+}
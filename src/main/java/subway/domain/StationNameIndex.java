@@ -0,0 +1,155 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class StationNameIndex {
+    private final SortedKeys names;
+    private final SortedKeys initials;
+
+    private StationNameIndex(SortedKeys names, SortedKeys initials) {
+        this.names = names;
+        this.initials = initials;
+    }
+
+    public static StationNameIndex of(Collection<Station> stations) {
+        return new StationNameIndex(
+                SortedKeys.of(stations, StationNameIndex::nameKey),
+                SortedKeys.of(stations, StationNameIndex::initialsKey)
+        );
+    }
+
+    public StationNameIndex patch(Collection<Station> savedStations, Collection<Long> removedStationIds) {
+        if (savedStations.isEmpty() && removedStationIds.isEmpty()) {
+            return this;
+        }
+        Set<Long> changedIds = new HashSet<>(removedStationIds);
+        savedStations.forEach(station -> changedIds.add(station.getId()));
+        return new StationNameIndex(
+                names.patch(changedIds, savedStations, StationNameIndex::nameKey),
+                initials.patch(changedIds, savedStations, StationNameIndex::initialsKey)
+        );
+    }
+
+    public List<Station> search(String prefix, int limit) {
+        String query = Hangul.normalize(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        if (Hangul.containsInitial(query)) {
+            // 초성 색인으로 후보를 좁힌 뒤, 완성된 글자는 그대로 비교해 "강ㄴ"이 "구내"처럼 초성만 같은 이름까지 찾지 않게 한다.
+            return initials.search(Hangul.initials(query), limit, station -> Hangul.matchesPrefix(nameKey(station), query));
+        }
+        return names.search(query, limit, station -> true);
+    }
+
+    private static String nameKey(Station station) {
+        return Hangul.normalize(station.getName());
+    }
+
+    private static String initialsKey(Station station) {
+        return Hangul.initials(nameKey(station));
+    }
+
+    private static final class SortedKeys {
+        private static final Comparator<Entry> ORDER = Comparator.comparing((Entry entry) -> entry.key)
+                .thenComparingLong(entry -> entry.station.getId());
+
+        private final String[] keys;
+        private final Station[] stations;
+
+        private SortedKeys(List<Entry> entries) {
+            this.keys = new String[entries.size()];
+            this.stations = new Station[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).key;
+                stations[i] = entries.get(i).station;
+            }
+        }
+
+        static SortedKeys of(Collection<Station> stations, Function<Station, String> keyOf) {
+            List<Entry> entries = entries(stations, keyOf);
+            return new SortedKeys(entries);
+        }
+
+        SortedKeys patch(Set<Long> changedIds, Collection<Station> savedStations, Function<Station, String> keyOf) {
+            List<Entry> added = entries(savedStations, keyOf);
+            List<Entry> merged = new ArrayList<>(keys.length + added.size());
+            int next = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (changedIds.contains(stations[i].getId())) {
+                    continue;
+                }
+                Entry entry = new Entry(keys[i], stations[i]);
+                while (next < added.size() && ORDER.compare(added.get(next), entry) < 0) {
+                    merged.add(added.get(next++));
+                }
+                merged.add(entry);
+            }
+            merged.addAll(added.subList(next, added.size()));
+            return new SortedKeys(merged);
+        }
+
+        List<Station> search(String prefix, int limit, Predicate<Station> filter) {
+            int from = lowerBound(prefix);
+            String upperBound = Hangul.prefixUpperBound(prefix);
+            int to = upperBound == null ? keys.length : lowerBound(upperBound);
+            if (to - from <= 1) {
+                return to > from && filter.test(stations[from]) ? List.of(stations[from]) : Collections.emptyList();
+            }
+            int maxLength = 0;
+            for (int i = from; i < to; i++) {
+                maxLength = Math.max(maxLength, keys[i].length());
+            }
+            List<Station> found = new ArrayList<>(Math.min(limit, to - from));
+            for (int length = prefix.length(); length <= maxLength && found.size() < limit; length++) {
+                for (int i = from; i < to && found.size() < limit; i++) {
+                    if (keys[i].length() == length && filter.test(stations[i])) {
+                        found.add(stations[i]);
+                    }
+                }
+            }
+            return Collections.unmodifiableList(found);
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static List<Entry> entries(Collection<Station> stations, Function<Station, String> keyOf) {
+            List<Entry> entries = new ArrayList<>(stations.size());
+            for (Station station : stations) {
+                entries.add(new Entry(keyOf.apply(station), station));
+            }
+            entries.sort(ORDER);
+            return entries;
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final Station station;
+
+        private Entry(String key, Station station) {
+            this.key = key;
+            this.station = station;
+        }
+    }
+}
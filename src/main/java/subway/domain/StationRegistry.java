@@ -0,0 +1,77 @@
+package subway.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// 역 id를 촘촘한 int 번호로 바꿔 주는 등록부. 경로 탐색은 이 번호로 배열만 다루고, id는 입출력 경계에서만 바꾼다.
+// 번호는 한 번 정해지면 바뀌지 않으며 삭제된 역의 자리는 비워 둔다.
+final class StationRegistry {
+    static final int MISSING = LongIntHashMap.MISSING;
+
+    private final Station[] stations;
+    private final LongIntHashMap indexByStationId;
+
+    private StationRegistry(Station[] stations, LongIntHashMap indexByStationId) {
+        this.stations = stations;
+        this.indexByStationId = indexByStationId;
+    }
+
+    static StationRegistry of(List<Station> stations) {
+        Station[] indexedStations = stations.toArray(new Station[0]);
+        LongIntHashMap indexByStationId = new LongIntHashMap(indexedStations.length);
+        for (int index = 0; index < indexedStations.length; index++) {
+            indexByStationId.put(indexedStations[index].getId(), index);
+        }
+        return new StationRegistry(indexedStations, indexByStationId);
+    }
+
+    StationRegistry patch(Collection<Station> savedStations, Collection<Long> removedStationIds) {
+        if (savedStations.isEmpty() && removedStationIds.isEmpty()) {
+            return this;
+        }
+        int addedCount = 0;
+        for (Station station : savedStations) {
+            if (!indexByStationId.containsKey(station.getId())) {
+                addedCount++;
+            }
+        }
+        Station[] nextStations = Arrays.copyOf(stations, stations.length + addedCount);
+        LongIntHashMap nextIndexByStationId = indexByStationId;
+        if (addedCount > 0 || !removedStationIds.isEmpty()) {
+            nextIndexByStationId = indexByStationId.copy();
+        }
+        int nextIndex = stations.length;
+        for (Station station : savedStations) {
+            int index = nextIndexByStationId.get(station.getId());
+            if (index == MISSING) {
+                index = nextIndex++;
+                nextIndexByStationId.put(station.getId(), index);
+            }
+            nextStations[index] = station;
+        }
+        for (Long stationId : removedStationIds) {
+            int index = nextIndexByStationId.remove(stationId);
+            if (index != MISSING) {
+                nextStations[index] = null;
+            }
+        }
+        return new StationRegistry(nextStations, nextIndexByStationId);
+    }
+
+    int indexOf(long stationId) {
+        return indexByStationId.get(stationId);
+    }
+
+    Station get(int index) {
+        return stations[index];
+    }
+
+    int capacity() {
+        return stations.length;
+    }
+
+    Station[] stations() {
+        return stations;
+    }
+}
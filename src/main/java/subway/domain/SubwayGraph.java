@@ -0,0 +1,239 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class SubwayGraph {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+    private static final int[] NO_EDGES = new int[0];
+
+    private final StationRegistry registry;
+    // edges[station] = {neighbor0, distance0, neighbor1, distance1, ...}
+    private final int[][] edges;
+
+    private SubwayGraph(StationRegistry registry, int[][] edges) {
+        this.registry = registry;
+        this.edges = edges;
+    }
+
+    public static SubwayGraph of(List<Station> stations, List<Section> sections) {
+        StationRegistry registry = StationRegistry.of(stations);
+        int stationCount = registry.capacity();
+
+        int[] upStations = new int[sections.size()];
+        int[] downStations = new int[sections.size()];
+        int[] degrees = new int[stationCount];
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            upStations[i] = indexOf(registry, section.getUpStationId());
+            downStations[i] = indexOf(registry, section.getDownStationId());
+            degrees[upStations[i]]++;
+            degrees[downStations[i]]++;
+        }
+
+        int[][] edges = new int[stationCount][];
+        for (int station = 0; station < edges.length; station++) {
+            edges[station] = new int[degrees[station] * 2];
+        }
+        int[] cursors = new int[stationCount];
+        for (int i = 0; i < sections.size(); i++) {
+            int distance = sections.get(i).getDistance();
+            link(edges, cursors, upStations[i], downStations[i], distance);
+            link(edges, cursors, downStations[i], upStations[i], distance);
+        }
+        return new SubwayGraph(registry, edges);
+    }
+
+    private static int indexOf(StationRegistry registry, long stationId) {
+        int index = registry.indexOf(stationId);
+        if (index == StationRegistry.MISSING) {
+            throw new IllegalStateException("구간에 등록되지 않은 역이 포함되어 있습니다. stationId=" + stationId);
+        }
+        return index;
+    }
+
+    private static void link(int[][] edges, int[] cursors, int from, int to, int distance) {
+        edges[from][cursors[from]++] = to;
+        edges[from][cursors[from]++] = distance;
+    }
+
+    public SubwayGraph patch(Collection<Station> savedStations, Collection<Long> removedStationIds,
+                             Collection<Section> removedSections, Collection<Section> addedSections) {
+        if (savedStations.isEmpty() && removedStationIds.isEmpty() && removedSections.isEmpty() && addedSections.isEmpty()) {
+            return this;
+        }
+        StationRegistry nextRegistry = registry.patch(savedStations, removedStationIds);
+        int[][] nextEdges = edges;
+        if (nextRegistry.capacity() > edges.length) {
+            nextEdges = Arrays.copyOf(edges, nextRegistry.capacity());
+            Arrays.fill(nextEdges, edges.length, nextEdges.length, NO_EDGES);
+        }
+
+        if (!removedSections.isEmpty() || !addedSections.isEmpty()) {
+            if (nextEdges == edges) {
+                nextEdges = edges.clone();
+            }
+            // 제거된 구간은 이전 그래프에 있던 것이므로 이번에 함께 지워진 역도 이전 등록부에서 찾을 수 있다.
+            Map<Integer, List<int[]>> removedEdges = toEdges(registry, removedSections);
+            Map<Integer, List<int[]>> addedEdges = toEdges(nextRegistry, addedSections);
+            Set<Integer> affectedStations = new HashSet<>(removedEdges.keySet());
+            affectedStations.addAll(addedEdges.keySet());
+            for (int station : affectedStations) {
+                nextEdges[station] = rebuildRow(
+                        nextEdges[station],
+                        removedEdges.getOrDefault(station, Collections.emptyList()),
+                        addedEdges.getOrDefault(station, Collections.emptyList())
+                );
+            }
+        }
+
+        for (Long stationId : removedStationIds) {
+            int index = registry.indexOf(stationId);
+            if (index != StationRegistry.MISSING && nextEdges[index].length > 0) {
+                throw new IllegalStateException("구간에 포함된 역은 제거할 수 없습니다. stationId=" + stationId);
+            }
+        }
+        return new SubwayGraph(nextRegistry, nextEdges);
+    }
+
+    StationRegistry registry() {
+        return registry;
+    }
+
+    private static Map<Integer, List<int[]>> toEdges(StationRegistry registry, Collection<Section> sections) {
+        Map<Integer, List<int[]>> edgesByStation = new HashMap<>();
+        for (Section section : sections) {
+            int up = indexOf(registry, section.getUpStationId());
+            int down = indexOf(registry, section.getDownStationId());
+            edgesByStation.computeIfAbsent(up, ignored -> new ArrayList<>()).add(new int[]{down, section.getDistance()});
+            edgesByStation.computeIfAbsent(down, ignored -> new ArrayList<>()).add(new int[]{up, section.getDistance()});
+        }
+        return edgesByStation;
+    }
+
+    private static int[] rebuildRow(int[] row, List<int[]> removedEdges, List<int[]> addedEdges) {
+        boolean[] removed = new boolean[row.length / 2];
+        for (int[] edge : removedEdges) {
+            removed[findEdge(row, removed, edge)] = true;
+        }
+        int[] next = new int[row.length + (addedEdges.size() - removedEdges.size()) * 2];
+        int cursor = 0;
+        for (int i = 0; i < row.length; i += 2) {
+            if (!removed[i / 2]) {
+                next[cursor++] = row[i];
+                next[cursor++] = row[i + 1];
+            }
+        }
+        for (int[] edge : addedEdges) {
+            next[cursor++] = edge[0];
+            next[cursor++] = edge[1];
+        }
+        return next;
+    }
+
+    private static int findEdge(int[] row, boolean[] removed, int[] edge) {
+        for (int i = 0; i < row.length; i += 2) {
+            if (!removed[i / 2] && row[i] == edge[0] && row[i + 1] == edge[1]) {
+                return i / 2;
+            }
+        }
+        throw new IllegalStateException("제거할 구간을 찾을 수 없습니다.");
+    }
+
+    public ShortestPath findShortestPath(Long sourceStationId, Long targetStationId) {
+        int source = findIndex(sourceStationId);
+        int target = findIndex(targetStationId);
+        if (source == target) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        int[] distances = new int[registry.capacity()];
+        int[] previous = new int[registry.capacity()];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, NONE);
+        search(source, target, distances, previous);
+
+        if (distances[target] == UNREACHABLE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+        return new ShortestPath(trace(target, previous), distances[target]);
+    }
+
+    public ShortestPathTree findShortestPathTree(Long sourceStationId) {
+        int source = findIndex(sourceStationId);
+        int[] distances = new int[registry.capacity()];
+        int[] previous = new int[registry.capacity()];
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, NONE);
+        search(source, NONE, distances, previous);
+        return new ShortestPathTree(this, source, distances, previous);
+    }
+
+    Optional<ShortestPath> findPathInTree(int source, int[] distances, int[] previous, Long targetStationId) {
+        int target = findIndex(targetStationId);
+        if (source == target) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        if (distances[target] == UNREACHABLE) {
+            return Optional.empty();
+        }
+        return Optional.of(new ShortestPath(trace(target, previous), distances[target]));
+    }
+
+    private int findIndex(Long stationId) {
+        int index = stationId == null ? StationRegistry.MISSING : registry.indexOf(stationId);
+        if (index == StationRegistry.MISSING) {
+            throw new IllegalArgumentException("존재하지 않는 역입니다. stationId=" + stationId);
+        }
+        return index;
+    }
+
+    private void search(int source, int target, int[] distances, int[] previous) {
+        LongMinHeap queue = new LongMinHeap(registry.capacity());
+        distances[source] = 0;
+        queue.push(pack(0, source));
+        while (!queue.isEmpty()) {
+            long entry = queue.pop();
+            int distance = (int) (entry >>> 32);
+            int station = (int) entry;
+            if (distance > distances[station]) {
+                continue;
+            }
+            if (station == target) {
+                return;
+            }
+            int[] row = edges[station];
+            for (int i = 0; i < row.length; i += 2) {
+                int next = row[i];
+                int candidate = distance + row[i + 1];
+                if (candidate < distances[next]) {
+                    distances[next] = candidate;
+                    previous[next] = station;
+                    queue.push(pack(candidate, next));
+                }
+            }
+        }
+    }
+
+    private static long pack(int distance, int station) {
+        return ((long) distance << 32) | station;
+    }
+
+    private List<Station> trace(int target, int[] previous) {
+        List<Station> path = new ArrayList<>();
+        for (int station = target; station != NONE; station = previous[station]) {
+            path.add(registry.get(station));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
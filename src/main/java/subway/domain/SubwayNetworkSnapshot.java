@@ -0,0 +1,312 @@
+package subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SubwayNetworkSnapshot {
+    private final Map<Long, Station> stationsById;
+    private final Map<String, Long> stationIdsByName;
+    private final List<Station> stations;
+    private final StationNameIndex stationNameIndex;
+    private final Map<Long, Line> linesById;
+    private final Map<String, Long> lineIdsByName;
+    private final List<Line> lines;
+    private final Map<Long, List<Section>> sectionsByLineId;
+    private final Map<Long, List<Long>> orderedStationIdsByLineId;
+    private final SubwayGraph graph;
+    private final NetworkVersion version;
+    private volatile LineRouter lineRouter;
+
+    private SubwayNetworkSnapshot(Map<Long, Station> stationsById, Map<String, Long> stationIdsByName, List<Station> stations,
+                                  StationNameIndex stationNameIndex, Map<Long, Line> linesById, Map<String, Long> lineIdsByName, List<Line> lines,
+                                  Map<Long, List<Section>> sectionsByLineId, Map<Long, List<Long>> orderedStationIdsByLineId,
+                                  SubwayGraph graph, NetworkVersion version, LineRouter lineRouter) {
+        this.stationsById = stationsById;
+        this.stationIdsByName = stationIdsByName;
+        this.stations = stations;
+        this.stationNameIndex = stationNameIndex;
+        this.linesById = linesById;
+        this.lineIdsByName = lineIdsByName;
+        this.lines = lines;
+        this.sectionsByLineId = sectionsByLineId;
+        this.orderedStationIdsByLineId = orderedStationIdsByLineId;
+        this.graph = graph;
+        this.version = version;
+        this.lineRouter = lineRouter;
+    }
+
+    public static SubwayNetworkSnapshot of(List<Station> stations, List<Line> lines, List<Section> sections) {
+        Map<Long, Station> stationsById = new LinkedHashMap<>();
+        Map<String, Long> stationIdsByName = new HashMap<>();
+        for (Station station : stations) {
+            stationsById.put(station.getId(), station);
+            stationIdsByName.put(station.getName(), station.getId());
+        }
+        Map<Long, Line> linesById = new LinkedHashMap<>();
+        Map<String, Long> lineIdsByName = new HashMap<>();
+        for (Line line : lines) {
+            linesById.put(line.getId(), line);
+            lineIdsByName.put(line.getName(), line.getId());
+        }
+        Map<Long, List<Section>> sectionsByLineId = new HashMap<>();
+        Map<Long, List<Long>> orderedStationIdsByLineId = new HashMap<>();
+        sections.stream()
+                .collect(Collectors.groupingBy(Section::getLineId))
+                .forEach((lineId, lineSections) -> putLineSections(sectionsByLineId, orderedStationIdsByLineId, lineId, lineSections));
+
+        return new SubwayNetworkSnapshot(
+                Collections.unmodifiableMap(stationsById),
+                Collections.unmodifiableMap(stationIdsByName),
+                List.copyOf(stationsById.values()),
+                StationNameIndex.of(stationsById.values()),
+                Collections.unmodifiableMap(linesById),
+                Collections.unmodifiableMap(lineIdsByName),
+                List.copyOf(linesById.values()),
+                Collections.unmodifiableMap(sectionsByLineId),
+                Collections.unmodifiableMap(orderedStationIdsByLineId),
+                SubwayGraph.of(stations, sections),
+                new NetworkVersion(0, 0),
+                null
+        );
+    }
+
+    public static SubwayNetworkSnapshot empty() {
+        return of(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    private static void putLineSections(Map<Long, List<Section>> sectionsByLineId, Map<Long, List<Long>> orderedStationIdsByLineId,
+                                        Long lineId, List<Section> lineSections) {
+        if (lineSections.isEmpty()) {
+            sectionsByLineId.remove(lineId);
+            orderedStationIdsByLineId.remove(lineId);
+            return;
+        }
+        sectionsByLineId.put(lineId, List.copyOf(lineSections));
+        orderedStationIdsByLineId.put(lineId, List.copyOf(new Sections(lineSections).getOrderedStationIds()));
+    }
+
+    // 색인·노선 순서·그래프는 바뀐 항목만 다시 만들지만, id·이름 맵과 목록은 참조를 통째로 복사한다(쓰기마다 O(N)).
+    // 읽기가 잠금 없이 이전 스냅샷을 계속 보므로 제자리에서 고칠 수 없고, 영속 맵은 새 의존성 없이 들일 수 없어 복사를 택했다.
+    public SubwayNetworkSnapshot apply(NetworkPatch patch) {
+        Map<Long, Station> nextStationsById = stationsById;
+        Map<String, Long> nextStationIdsByName = stationIdsByName;
+        List<Station> nextStations = stations;
+        StationNameIndex nextStationNameIndex = stationNameIndex;
+        List<Station> savedStations = new ArrayList<>();
+        Set<Long> removedStationIds = new HashSet<>();
+        if (!patch.getStationIds().isEmpty()) {
+            Map<Long, Station> patchedStationsById = new LinkedHashMap<>(stationsById);
+            Map<String, Long> patchedStationIdsByName = new HashMap<>(stationIdsByName);
+            for (Long stationId : patch.getStationIds()) {
+                Station previous = patchedStationsById.get(stationId);
+                if (previous != null) {
+                    patchedStationIdsByName.remove(previous.getName());
+                }
+            }
+            for (Long stationId : patch.getStationIds()) {
+                Optional<Station> station = patch.findStation(stationId);
+                if (station.isPresent()) {
+                    patchedStationsById.put(stationId, station.get());
+                    patchedStationIdsByName.put(station.get().getName(), stationId);
+                    savedStations.add(station.get());
+                } else if (patchedStationsById.remove(stationId) != null) {
+                    removedStationIds.add(stationId);
+                }
+            }
+            nextStationsById = Collections.unmodifiableMap(patchedStationsById);
+            nextStationIdsByName = Collections.unmodifiableMap(patchedStationIdsByName);
+            nextStations = List.copyOf(patchedStationsById.values());
+            nextStationNameIndex = stationNameIndex.patch(savedStations, removedStationIds);
+        }
+
+        Map<Long, Line> nextLinesById = linesById;
+        Map<String, Long> nextLineIdsByName = lineIdsByName;
+        List<Line> nextLines = lines;
+        Map<Long, List<Section>> nextSectionsByLineId = sectionsByLineId;
+        Map<Long, List<Long>> nextOrderedStationIdsByLineId = orderedStationIdsByLineId;
+        List<Section> removedSections = new ArrayList<>();
+        List<Section> addedSections = new ArrayList<>();
+        if (!patch.getLineIds().isEmpty()) {
+            Map<Long, Line> patchedLinesById = new LinkedHashMap<>(linesById);
+            Map<String, Long> patchedLineIdsByName = new HashMap<>(lineIdsByName);
+            Map<Long, List<Section>> patchedSectionsByLineId = new HashMap<>(sectionsByLineId);
+            Map<Long, List<Long>> patchedOrderedStationIdsByLineId = new HashMap<>(orderedStationIdsByLineId);
+            for (Long lineId : patch.getLineIds()) {
+                Line previous = patchedLinesById.get(lineId);
+                if (previous != null) {
+                    patchedLineIdsByName.remove(previous.getName());
+                }
+            }
+            for (Long lineId : patch.getLineIds()) {
+                Optional<Line> line = patch.findLine(lineId);
+                if (line.isPresent()) {
+                    patchedLinesById.put(lineId, line.get());
+                    patchedLineIdsByName.put(line.get().getName(), lineId);
+                } else {
+                    patchedLinesById.remove(lineId);
+                }
+
+                List<Section> previousSections = sectionsByLineId.getOrDefault(lineId, Collections.emptyList());
+                List<Section> currentSections = patch.findSectionsByLineId(lineId);
+                if (previousSections.equals(currentSections)) {
+                    continue;
+                }
+                Set<Section> previousSet = new HashSet<>(previousSections);
+                Set<Section> currentSet = new HashSet<>(currentSections);
+                previousSections.stream().filter(section -> !currentSet.contains(section)).forEach(removedSections::add);
+                currentSections.stream().filter(section -> !previousSet.contains(section)).forEach(addedSections::add);
+                putLineSections(patchedSectionsByLineId, patchedOrderedStationIdsByLineId, lineId, currentSections);
+            }
+            nextLinesById = Collections.unmodifiableMap(patchedLinesById);
+            nextLineIdsByName = Collections.unmodifiableMap(patchedLineIdsByName);
+            nextLines = List.copyOf(patchedLinesById.values());
+            nextSectionsByLineId = Collections.unmodifiableMap(patchedSectionsByLineId);
+            nextOrderedStationIdsByLineId = Collections.unmodifiableMap(patchedOrderedStationIdsByLineId);
+        }
+
+        SubwayGraph nextGraph = graph.patch(savedStations, removedStationIds, removedSections, addedSections);
+        return new SubwayNetworkSnapshot(
+                nextStationsById, nextStationIdsByName, nextStations, nextStationNameIndex,
+                nextLinesById, nextLineIdsByName, nextLines,
+                nextSectionsByLineId, nextOrderedStationIdsByLineId,
+                nextGraph, version, null
+        );
+    }
+
+    public SubwayNetworkSnapshot versioned(long value) {
+        return new SubwayNetworkSnapshot(
+                stationsById, stationIdsByName, stations, stationNameIndex,
+                linesById, lineIdsByName, lines,
+                sectionsByLineId, orderedStationIdsByLineId,
+                graph, new NetworkVersion(value, System.currentTimeMillis()), lineRouter
+        );
+    }
+
+    public ShortestPath findShortestPath(Long sourceStationId, Long targetStationId) {
+        return graph.findShortestPath(sourceStationId, targetStationId);
+    }
+
+    public ShortestPathTree findShortestPathTree(Long sourceStationId) {
+        return graph.findShortestPathTree(sourceStationId);
+    }
+
+    public List<Journey> findParetoJourneys(Long sourceStationId, Long targetStationId) {
+        return lineRouter().findParetoJourneys(sourceStationId, targetStationId);
+    }
+
+    public void findReachable(Collection<Long> originStationIds, int maxDistance, int maxTransfers,
+                              Reachability reachability) {
+        lineRouter().findReachable(originStationIds, maxDistance, maxTransfers, reachability);
+    }
+
+    private LineRouter lineRouter() {
+        LineRouter router = lineRouter;
+        if (router == null) {
+            router = LineRouter.of(graph.registry(), lines, orderedStationIdsByLineId, sectionsByLineId);
+            lineRouter = router;
+        }
+        return router;
+    }
+
+    public NetworkDump dump() {
+        List<Section> lineSections = new ArrayList<>();
+        for (Line line : lines) {
+            lineSections.addAll(findSectionsByLineId(line.getId()));
+        }
+        return NetworkDump.full(version.getValue(), stations, lines, lineSections);
+    }
+
+    public NetworkDump delta(long sinceVersion, NetworkChange change) {
+        List<Station> changedStations = new ArrayList<>();
+        List<Long> removedStationIds = new ArrayList<>();
+        for (Long stationId : change.getStationIds()) {
+            Station station = stationsById.get(stationId);
+            if (station == null) {
+                removedStationIds.add(stationId);
+            } else {
+                changedStations.add(station);
+            }
+        }
+        List<Line> changedLines = new ArrayList<>();
+        List<Section> changedSections = new ArrayList<>();
+        List<Long> removedLineIds = new ArrayList<>();
+        for (Long lineId : change.getLineIds()) {
+            Line line = linesById.get(lineId);
+            if (line == null) {
+                removedLineIds.add(lineId);
+                continue;
+            }
+            changedLines.add(line);
+            changedSections.addAll(findSectionsByLineId(lineId));
+        }
+        return NetworkDump.delta(version.getValue(), sinceVersion, changedStations, removedStationIds,
+                changedLines, changedSections, removedLineIds);
+    }
+
+    public Optional<Station> findStation(Long id) {
+        return Optional.ofNullable(stationsById.get(id));
+    }
+
+    public Optional<Station> findStationByName(String name) {
+        return Optional.ofNullable(stationIdsByName.get(name))
+                .map(stationsById::get);
+    }
+
+    public List<Station> searchStations(String prefix, int limit) {
+        return stationNameIndex.search(prefix, limit);
+    }
+
+    public Optional<Line> findLine(Long id) {
+        return Optional.ofNullable(linesById.get(id));
+    }
+
+    public boolean containsLine(Long id) {
+        return linesById.containsKey(id);
+    }
+
+    public Optional<Line> findLineByName(String name) {
+        return Optional.ofNullable(lineIdsByName.get(name))
+                .map(linesById::get);
+    }
+
+    public List<Section> findSectionsByLineId(Long lineId) {
+        return sectionsByLineId.getOrDefault(lineId, Collections.emptyList());
+    }
+
+    public List<Long> findOrderedStationIdsByLineId(Long lineId) {
+        return orderedStationIdsByLineId.getOrDefault(lineId, Collections.emptyList());
+    }
+
+    public List<Station> findOrderedStationsByLineId(Long lineId) {
+        return findOrderedStationIdsByLineId(lineId).stream()
+                .map(stationsById::get)
+                .collect(Collectors.toList());
+    }
+
+    public NetworkVersion getVersion() {
+        return version;
+    }
+
+    public List<Station> getStations() {
+        return stations;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public List<Section> getSections() {
+        return sectionsByLineId.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+}
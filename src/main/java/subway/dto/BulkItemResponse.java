@@ -0,0 +1,40 @@
+package subway.dto;
+
+public class BulkItemResponse {
+    private int index;
+    private Long id;
+    private BulkItemStatus status;
+
+    public BulkItemResponse() {
+    }
+
+    public BulkItemResponse(int index, Long id, BulkItemStatus status) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+    }
+
+    public static BulkItemResponse created(int index, Long id) {
+        return new BulkItemResponse(index, id, BulkItemStatus.CREATED);
+    }
+
+    public static BulkItemResponse duplicate(int index) {
+        return new BulkItemResponse(index, null, BulkItemStatus.DUPLICATE);
+    }
+
+    public static BulkItemResponse invalid(int index) {
+        return new BulkItemResponse(index, null, BulkItemStatus.INVALID);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public BulkItemStatus getStatus() {
+        return status;
+    }
+}
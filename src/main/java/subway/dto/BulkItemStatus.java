@@ -0,0 +1,7 @@
+package subway.dto;
+
+public enum BulkItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
@@ -0,0 +1,44 @@
+package subway.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BulkResponse {
+    private List<BulkItemResponse> items;
+
+    public BulkResponse() {
+    }
+
+    public BulkResponse(List<BulkItemResponse> items) {
+        this.items = items;
+    }
+
+    public List<Long> createdIds() {
+        return items.stream()
+                .filter(item -> item.getStatus() == BulkItemStatus.CREATED)
+                .map(BulkItemResponse::getId)
+                .collect(Collectors.toList());
+    }
+
+    public long getCreated() {
+        return count(BulkItemStatus.CREATED);
+    }
+
+    public long getDuplicated() {
+        return count(BulkItemStatus.DUPLICATE);
+    }
+
+    public long getInvalid() {
+        return count(BulkItemStatus.INVALID);
+    }
+
+    private long count(BulkItemStatus status) {
+        return items.stream()
+                .filter(item -> item.getStatus() == status)
+                .count();
+    }
+
+    public List<BulkItemResponse> getItems() {
+        return items;
+    }
+}
@@ -1,20 +1,36 @@
 package subway.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import subway.domain.Line;
+import subway.domain.LineDetail;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class LineResponse {
     private Long id;
     private String name;
     private String color;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<StationResponse> stations;
 
-    public LineResponse(Long id, String name, String color) {
+    public LineResponse(Long id, String name, String color, List<StationResponse> stations) {
         this.id = id;
         this.name = name;
         this.color = color;
+        this.stations = stations;
     }
 
     public static LineResponse of(Line line) {
-        return new LineResponse(line.getId(), line.getName(), line.getColor());
+        return new LineResponse(line.getId(), line.getName(), line.getColor(), null);
+    }
+
+    public static LineResponse of(LineDetail lineDetail) {
+        Line line = lineDetail.getLine();
+        List<StationResponse> stations = lineDetail.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return new LineResponse(line.getId(), line.getName(), line.getColor(), stations);
     }
 
     public Long getId() {
@@ -28,4 +44,8 @@ public class LineResponse {
     public String getColor() {
         return color;
     }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
 }
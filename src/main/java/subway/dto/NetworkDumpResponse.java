@@ -0,0 +1,80 @@
+package subway.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import subway.domain.NetworkDump;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NetworkDumpResponse {
+    private boolean full;
+    private long version;
+    private Long sinceVersion;
+    private List<StationResponse> stations;
+    private List<Long> removedStationIds;
+    private List<LineResponse> lines;
+    private List<SectionResponse> sections;
+    private List<Long> removedLineIds;
+
+    public NetworkDumpResponse() {
+    }
+
+    public NetworkDumpResponse(boolean full, long version, Long sinceVersion, List<StationResponse> stations,
+                               List<Long> removedStationIds, List<LineResponse> lines, List<SectionResponse> sections,
+                               List<Long> removedLineIds) {
+        this.full = full;
+        this.version = version;
+        this.sinceVersion = sinceVersion;
+        this.stations = stations;
+        this.removedStationIds = removedStationIds;
+        this.lines = lines;
+        this.sections = sections;
+        this.removedLineIds = removedLineIds;
+    }
+
+    public static NetworkDumpResponse of(NetworkDump dump) {
+        return new NetworkDumpResponse(
+                dump.isFull(),
+                dump.getVersion(),
+                dump.getSinceVersion(),
+                dump.getStations().stream().map(StationResponse::of).collect(Collectors.toList()),
+                dump.getRemovedStationIds(),
+                dump.getLines().stream().map(LineResponse::of).collect(Collectors.toList()),
+                dump.getSections().stream().map(SectionResponse::of).collect(Collectors.toList()),
+                dump.getRemovedLineIds()
+        );
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Long getSinceVersion() {
+        return sinceVersion;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<Long> getRemovedStationIds() {
+        return removedStationIds;
+    }
+
+    public List<LineResponse> getLines() {
+        return lines;
+    }
+
+    public List<SectionResponse> getSections() {
+        return sections;
+    }
+
+    public List<Long> getRemovedLineIds() {
+        return removedLineIds;
+    }
+}
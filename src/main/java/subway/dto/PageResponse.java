@@ -0,0 +1,42 @@
+package subway.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class PageResponse<T> {
+    private List<T> items;
+    private String next;
+
+    public PageResponse() {
+    }
+
+    public PageResponse(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public static <T> PageResponse<T> of(List<T> fetched, int limit, Function<T, Long> idExtractor) {
+        if (fetched.size() <= limit) {
+            return new PageResponse<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new PageResponse<>(items, PageCursor.encode(idExtractor.apply(items.get(limit - 1))));
+    }
+
+    public <R> PageResponse<R> map(Function<T, R> mapper) {
+        return new PageResponse<>(items.stream().map(mapper).collect(Collectors.toList()), next);
+    }
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,73 @@
+package subway.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import subway.domain.ShortestPath;
+import subway.domain.Station;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PathBatchItemResponse {
+    private int index;
+    private Long source;
+    private Long target;
+    private PathBatchItemStatus status;
+    private Integer distance;
+    private List<Long> stationIds;
+
+    public PathBatchItemResponse() {
+    }
+
+    public PathBatchItemResponse(int index, Long source, Long target, PathBatchItemStatus status,
+                                 Integer distance, List<Long> stationIds) {
+        this.index = index;
+        this.source = source;
+        this.target = target;
+        this.status = status;
+        this.distance = distance;
+        this.stationIds = stationIds;
+    }
+
+    public static PathBatchItemResponse found(int index, PathRequest request, ShortestPath path) {
+        List<Long> stationIds = path.getStations().stream()
+                .map(Station::getId)
+                .collect(Collectors.toList());
+        return new PathBatchItemResponse(index, request.getSource(), request.getTarget(), PathBatchItemStatus.FOUND,
+                path.getDistance(), stationIds);
+    }
+
+    public static PathBatchItemResponse notConnected(int index, PathRequest request) {
+        return new PathBatchItemResponse(index, request.getSource(), request.getTarget(), PathBatchItemStatus.NOT_CONNECTED,
+                null, null);
+    }
+
+    public static PathBatchItemResponse invalid(int index, PathRequest request) {
+        return new PathBatchItemResponse(index, request.getSource(), request.getTarget(), PathBatchItemStatus.INVALID,
+                null, null);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public PathBatchItemStatus getStatus() {
+        return status;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+}
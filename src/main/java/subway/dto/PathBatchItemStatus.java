@@ -0,0 +1,7 @@
+package subway.dto;
+
+public enum PathBatchItemStatus {
+    FOUND,
+    NOT_CONNECTED,
+    INVALID
+}
@@ -0,0 +1,46 @@
+package subway.dto;
+
+import subway.domain.JourneyLeg;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PathLegResponse {
+    private Long lineId;
+    private String lineName;
+    private List<StationResponse> stations;
+    private int distance;
+
+    public PathLegResponse() {
+    }
+
+    public PathLegResponse(Long lineId, String lineName, List<StationResponse> stations, int distance) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public static PathLegResponse of(JourneyLeg leg) {
+        List<StationResponse> stations = leg.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return new PathLegResponse(leg.getLine().getId(), leg.getLine().getName(), stations, leg.getDistance());
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,22 @@
+package subway.dto;
+
+public class PathRequest {
+    private Long source;
+    private Long target;
+
+    public PathRequest() {
+    }
+
+    public PathRequest(Long source, Long target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+}
@@ -0,0 +1,63 @@
+package subway.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import subway.domain.Journey;
+import subway.domain.ShortestPath;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private Integer transfers;
+    private List<PathLegResponse> legs;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance) {
+        this(stations, distance, null, null);
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, Integer transfers, List<PathLegResponse> legs) {
+        this.stations = stations;
+        this.distance = distance;
+        this.transfers = transfers;
+        this.legs = legs;
+    }
+
+    public static PathResponse of(ShortestPath path) {
+        List<StationResponse> stations = path.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        return new PathResponse(stations, path.getDistance());
+    }
+
+    public static PathResponse of(Journey journey) {
+        List<StationResponse> stations = journey.getStations().stream()
+                .map(StationResponse::of)
+                .collect(Collectors.toList());
+        List<PathLegResponse> legs = journey.getLegs().stream()
+                .map(PathLegResponse::of)
+                .collect(Collectors.toList());
+        return new PathResponse(stations, journey.getDistance(), journey.getTransfers(), legs);
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public Integer getTransfers() {
+        return transfers;
+    }
+
+    public List<PathLegResponse> getLegs() {
+        return legs;
+    }
+}
@@ -0,0 +1,45 @@
+package subway.dto;
+
+import subway.domain.Reachability;
+
+public class ReachableStationResponse {
+    private Long id;
+    private String name;
+    private int distance;
+    private int transfers;
+
+    public ReachableStationResponse() {
+    }
+
+    public ReachableStationResponse(Long id, String name, int distance, int transfers) {
+        this.id = id;
+        this.name = name;
+        this.distance = distance;
+        this.transfers = transfers;
+    }
+
+    public static ReachableStationResponse of(Reachability reachability, int index) {
+        return new ReachableStationResponse(
+                reachability.getStation(index).getId(),
+                reachability.getStation(index).getName(),
+                reachability.getDistance(index),
+                reachability.getTransfers(index)
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+}
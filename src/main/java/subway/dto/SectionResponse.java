@@ -0,0 +1,44 @@
+package subway.dto;
+
+import subway.domain.Section;
+
+public class SectionResponse {
+    private Long id;
+    private Long lineId;
+    private Long upStationId;
+    private Long downStationId;
+    private int distance;
+
+    public SectionResponse(Long id, Long lineId, Long upStationId, Long downStationId, int distance) {
+        this.id = id;
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public static SectionResponse of(Section section) {
+        return new SectionResponse(section.getId(), section.getLineId(), section.getUpStationId(),
+                section.getDownStationId(), section.getDistance());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
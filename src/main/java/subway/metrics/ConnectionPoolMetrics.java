@@ -0,0 +1,57 @@
+package subway.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConnectionPoolMetrics implements BeanPostProcessor {
+    private final ObjectProvider<MetricsRegistry> metricsRegistry;
+
+    public ConnectionPoolMetrics(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource) {
+            ((HikariDataSource) bean).setMetricsTrackerFactory(new TrackerFactory());
+        }
+        return bean;
+    }
+
+    private class TrackerFactory implements MetricsTrackerFactory {
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            MetricsRegistry registry = metricsRegistry.getObject();
+            String labels = PrometheusWriter.labels("pool", poolName);
+            registry.gauge("subway_jdbc_connections_active", "사용 중인 커넥션 수", labels, poolStats::getActiveConnections);
+            registry.gauge("subway_jdbc_connections_idle", "유휴 커넥션 수", labels, poolStats::getIdleConnections);
+            registry.gauge("subway_jdbc_connections_pending", "커넥션을 기다리는 스레드 수", labels, poolStats::getPendingThreads);
+            registry.gauge("subway_jdbc_connections_max", "최대 커넥션 수", labels, poolStats::getMaxConnections);
+            return new Tracker(registry);
+        }
+    }
+
+    private static class Tracker implements IMetricsTracker {
+        private final MetricsRegistry registry;
+
+        Tracker(MetricsRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            registry.recordConnectionWait(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            registry.recordConnectionTimeout();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package subway.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+@Aspect
+@Component
+public class DaoMetricsAspect {
+    private final MetricsRegistry metricsRegistry;
+
+    public DaoMetricsAspect(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Around("within(subway.dao..*) && @within(org.springframework.stereotype.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedNanos = System.nanoTime();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - startedNanos;
+            metricsRegistry.recordQuery(((MethodSignature) joinPoint.getSignature()).getMethod(), elapsed, rowsOf(result));
+        }
+    }
+
+    private static long rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        return 1;
+    }
+}
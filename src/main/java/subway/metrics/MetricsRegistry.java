@@ -0,0 +1,153 @@
+package subway.metrics;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+@Component
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private final ConcurrentHashMap<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, DaoMetrics> daoMethods = new ConcurrentHashMap<>();
+    private final LatencyHistogram connectionWait = new LatencyHistogram();
+    private final LongAdder connectionTimeouts = new LongAdder();
+    private final List<SuppliedMetric> suppliedMetrics = new CopyOnWriteArrayList<>();
+
+    public void recordRoute(String method, String route, long nanos) {
+        HttpMethod httpMethod = HttpMethod.resolve(method);
+        if (httpMethod == null) {
+            return;
+        }
+        RouteMetrics metrics = routes.get(route);
+        if (metrics == null) {
+            metrics = routes.computeIfAbsent(route, key -> new RouteMetrics());
+        }
+        metrics.histogram(httpMethod).record(nanos);
+    }
+
+    public void recordQuery(Method method, long nanos, long rows) {
+        DaoMetrics metrics = daoMethods.get(method);
+        if (metrics == null) {
+            metrics = daoMethods.computeIfAbsent(method, key -> new DaoMetrics());
+        }
+        metrics.duration.record(nanos);
+        metrics.rows.add(rows);
+    }
+
+    public void recordConnectionWait(long nanos) {
+        connectionWait.record(nanos);
+    }
+
+    public void recordConnectionTimeout() {
+        connectionTimeouts.increment();
+    }
+
+    public void counter(String name, String help, String labels, LongSupplier supplier) {
+        suppliedMetrics.add(new SuppliedMetric(name, help, "counter", labels, supplier, null));
+    }
+
+    public void gauge(String name, String help, String labels, LongSupplier supplier) {
+        suppliedMetrics.add(new SuppliedMetric(name, help, "gauge", labels, supplier, null));
+    }
+
+    public void ratio(String name, String help, String labels, DoubleSupplier supplier) {
+        suppliedMetrics.add(new SuppliedMetric(name, help, "gauge", labels, null, supplier));
+    }
+
+    public String scrape() {
+        PrometheusWriter writer = new PrometheusWriter();
+
+        writer.type("subway_http_request_duration_seconds", "summary", "HTTP 요청 처리 시간");
+        for (Map.Entry<String, RouteMetrics> route : new TreeMap<>(routes).entrySet()) {
+            for (HttpMethod method : METHODS) {
+                LatencyHistogram histogram = route.getValue().histograms.get(method.ordinal());
+                if (histogram != null) {
+                    String labels = PrometheusWriter.labels("method", method.name(), "route", route.getKey());
+                    writer.summary("subway_http_request_duration_seconds", labels, histogram.snapshot(), QUANTILES);
+                }
+            }
+        }
+
+        writer.type("subway_dao_query_duration_seconds", "summary", "DAO 메서드 실행 시간");
+        daoMethods.forEach((method, metrics) -> writer.summary("subway_dao_query_duration_seconds",
+                daoLabels(method), metrics.duration.snapshot(), QUANTILES));
+        writer.type("subway_dao_rows_total", "counter", "DAO 메서드가 읽거나 쓴 행 수");
+        daoMethods.forEach((method, metrics) -> writer.sample("subway_dao_rows_total", daoLabels(method), metrics.rows.sum()));
+
+        writer.type("subway_jdbc_connection_wait_seconds", "summary", "커넥션 풀에서 커넥션을 얻기까지 기다린 시간");
+        writer.summary("subway_jdbc_connection_wait_seconds", "", connectionWait.snapshot(), QUANTILES);
+        writer.type("subway_jdbc_connection_timeouts_total", "counter", "커넥션을 얻지 못하고 시간이 초과된 횟수");
+        writer.sample("subway_jdbc_connection_timeouts_total", "", connectionTimeouts.sum());
+
+        Map<String, List<SuppliedMetric>> suppliedByName = new LinkedHashMap<>();
+        for (SuppliedMetric metric : suppliedMetrics) {
+            suppliedByName.computeIfAbsent(metric.name, name -> new ArrayList<>()).add(metric);
+        }
+        for (List<SuppliedMetric> metrics : suppliedByName.values()) {
+            SuppliedMetric first = metrics.get(0);
+            writer.type(first.name, first.type, first.help);
+            for (SuppliedMetric metric : metrics) {
+                if (metric.ratio != null) {
+                    writer.sample(metric.name, metric.labels, metric.ratio.getAsDouble());
+                } else {
+                    writer.sample(metric.name, metric.labels, metric.supplier.getAsLong());
+                }
+            }
+        }
+        return writer.toString();
+    }
+
+    private static String daoLabels(Method method) {
+        return PrometheusWriter.labels("dao", method.getDeclaringClass().getSimpleName(), "method", method.getName());
+    }
+
+    private static class RouteMetrics {
+        private final AtomicReferenceArray<LatencyHistogram> histograms = new AtomicReferenceArray<>(METHODS.length);
+
+        LatencyHistogram histogram(HttpMethod method) {
+            LatencyHistogram histogram = histograms.get(method.ordinal());
+            if (histogram != null) {
+                return histogram;
+            }
+            histograms.compareAndSet(method.ordinal(), null, new LatencyHistogram());
+            return histograms.get(method.ordinal());
+        }
+    }
+
+    private static class DaoMetrics {
+        private final LatencyHistogram duration = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+    }
+
+    private static class SuppliedMetric {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final String labels;
+        private final LongSupplier supplier;
+        private final DoubleSupplier ratio;
+
+        SuppliedMetric(String name, String help, String type, String labels, LongSupplier supplier, DoubleSupplier ratio) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labels = labels;
+            this.supplier = supplier;
+            this.ratio = ratio;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package subway.metrics;
+
+class PrometheusWriter {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final StringBuilder output = new StringBuilder(4096);
+
+    static String labels(String... namesAndValues) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(namesAndValues[i]).append("=\"");
+            escape(labels, namesAndValues[i + 1]);
+            labels.append('"');
+        }
+        return labels.toString();
+    }
+
+    private static void escape(StringBuilder labels, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                labels.append('\\').append(c);
+            } else if (c == '\n') {
+                labels.append("\\n");
+            } else {
+                labels.append(c);
+            }
+        }
+    }
+
+    void type(String name, String type, String help) {
+        output.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    void summary(String name, String labels, LatencyHistogram.Snapshot snapshot, double[] quantiles) {
+        String separator = labels.isEmpty() ? "" : ",";
+        for (double quantile : quantiles) {
+            output.append(name).append('{').append(labels).append(separator)
+                    .append("quantile=\"").append(quantile).append("\"} ")
+                    .append(snapshot.quantile(quantile) / NANOS_PER_SECOND).append('\n');
+        }
+        appendName(name + "_sum", labels).append(snapshot.getSum() / NANOS_PER_SECOND).append('\n');
+        appendName(name + "_count", labels).append(snapshot.getCount()).append('\n');
+    }
+
+    void sample(String name, String labels, long value) {
+        appendName(name, labels).append(value).append('\n');
+    }
+
+    void sample(String name, String labels, double value) {
+        appendName(name, labels).append(value).append('\n');
+    }
+
+    private StringBuilder appendName(String name, String labels) {
+        output.append(name);
+        if (!labels.isEmpty()) {
+            output.append('{').append(labels).append('}');
+        }
+        return output.append(' ');
+    }
+
+    @Override
+    public String toString() {
+        return output.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package subway.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+public class RouteMetricsFilter extends OncePerRequestFilter {
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    private final MetricsRegistry metricsRegistry;
+
+    public RouteMetricsFilter(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startedNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, startedNanos));
+            } else {
+                record(request, startedNanos);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, long startedNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNMATCHED_ROUTE : pattern.toString();
+        metricsRegistry.recordRoute(request.getMethod(), route, System.nanoTime() - startedNanos);
+    }
+
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final long startedNanos;
+
+        CompletionListener(HttpServletRequest request, long startedNanos) {
+            this.request = request;
+            this.startedNanos = startedNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, startedNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package subway.metrics;
+
+import org.springframework.stereotype.Component;
+import subway.accesslog.AccessLogWriter;
+import subway.application.DatabaseExecutor;
+import subway.application.LineService;
+import subway.application.PathService;
+import subway.application.StationService;
+import subway.dao.CacheStats;
+import subway.dao.SingleFlightStats;
+import subway.dao.StationDao;
+
+import java.util.function.Supplier;
+
+@Component
+public class SubwayMetricsBinder {
+
+    public SubwayMetricsBinder(MetricsRegistry registry, StationDao stationDao, AccessLogWriter accessLogWriter,
+                               DatabaseExecutor databaseExecutor, PathService pathService, StationService stationService,
+                               LineService lineService) {
+        bindCache(registry, "station", stationDao::cacheStats);
+        bindCache(registry, "path", pathService::cacheStats);
+        registry.counter("subway_path_cache_coalesced_total", "진행 중인 같은 경로 탐색에 합류한 요청 수", "",
+                pathService::coalescedCount);
+        bindReadCoalescing(registry, "station", stationService::readCoalescingStats);
+        bindReadCoalescing(registry, "line", lineService::readCoalescingStats);
+
+        registry.counter("subway_access_log_written_total", "기록한 접근 로그 수", "", () -> accessLogWriter.stats().getWritten());
+        registry.counter("subway_access_log_dropped_total", "버퍼가 가득 차 버린 접근 로그 수", "", () -> accessLogWriter.stats().getDropped());
+        registry.counter("subway_access_log_sampled_out_total", "표본에서 빠진 접근 로그 수", "", () -> accessLogWriter.stats().getSampledOut());
+        registry.gauge("subway_access_log_queue_depth", "기록을 기다리는 접근 로그 수", "", () -> accessLogWriter.stats().getQueueDepth());
+
+        registry.gauge("subway_db_executor_queue_depth", "DB 작업 대기열 길이", "", databaseExecutor::queueDepth);
+        registry.gauge("subway_db_executor_active", "실행 중인 DB 작업 수", "", databaseExecutor::activeCount);
+        registry.counter("subway_db_executor_rejected_total", "대기열이 가득 차 거절한 DB 작업 수", "", databaseExecutor::rejectedCount);
+    }
+
+    private static void bindCache(MetricsRegistry registry, String cache, Supplier<CacheStats> stats) {
+        registry.counter("subway_cache_requests_total", "엔티티 캐시 조회 수",
+                PrometheusWriter.labels("cache", cache, "result", "hit"), () -> stats.get().getHits());
+        registry.counter("subway_cache_requests_total", "엔티티 캐시 조회 수",
+                PrometheusWriter.labels("cache", cache, "result", "miss"), () -> stats.get().getMisses());
+        registry.counter("subway_cache_evictions_total", "엔티티 캐시에서 내보낸 수",
+                PrometheusWriter.labels("cache", cache), () -> stats.get().getEvictions());
+        registry.gauge("subway_cache_size", "엔티티 캐시 크기",
+                PrometheusWriter.labels("cache", cache), () -> stats.get().getSize());
+        registry.ratio("subway_cache_hit_ratio", "엔티티 캐시 적중률",
+                PrometheusWriter.labels("cache", cache), () -> stats.get().hitRate());
+    }
+
+    private static void bindReadCoalescing(MetricsRegistry registry, String entity, Supplier<SingleFlightStats> stats) {
+        registry.counter("subway_read_coalescing_total", "DB를 직접 읽은(leader) 또는 진행 중인 조회에 합류한(joined) 단건 조회 수",
+                PrometheusWriter.labels("entity", entity, "role", "leader"), () -> stats.get().getLoads());
+        registry.counter("subway_read_coalescing_total", "DB를 직접 읽은(leader) 또는 진행 중인 조회에 합류한(joined) 단건 조회 수",
+                PrometheusWriter.labels("entity", entity, "role", "joined"), () -> stats.get().getCoalesced());
+        registry.counter("subway_read_coalescing_failures_total", "실패하거나 제한 시간을 넘긴 단건 조회 수",
+                PrometheusWriter.labels("entity", entity), () -> stats.get().getFailures());
+    }
+}
@@ -0,0 +1,74 @@
+package subway.ui;
+
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+// 요청 본문을 크기 제한이 있는 임시 파일에 옮겨 둔다. 느리게 올리는 클라이언트를 기다리는 동안에는 DB 연결을 잡지 않고,
+// 트랜잭션 안에서는 파일을 다시 스트림으로 읽으므로 본문 전체를 메모리에 올리지 않는다.
+final class BodySpool {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path file;
+
+    private BodySpool(Path file) {
+        this.file = file;
+    }
+
+    static BodySpool copyOf(InputStream inputStream, DataSize maxSize) {
+        Path file = createTempFile();
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = maxSize.toBytes();
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                remaining -= read;
+                if (remaining < 0) {
+                    throw new IllegalArgumentException("요청 본문은 " + maxSize.toBytes() + "바이트 이하여야 합니다.");
+                }
+                outputStream.write(buffer, 0, read);
+            }
+            return new BodySpool(file);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new IllegalArgumentException("요청 본문을 읽을 수 없습니다.", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    <T> T read(Function<InputStream, T> reader) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return reader.apply(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void delete() {
+        deleteQuietly(file);
+    }
+
+    private static Path createTempFile() {
+        try {
+            return Files.createTempFile("subway-bulk-", ".json");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 임시 디렉터리의 파일이므로 지우지 못해도 요청 결과에는 영향이 없다.
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package subway.ui;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+class BulkLimits {
+    private final DataSize maxBodySize;
+
+    BulkLimits(@Value("${subway.bulk.max-body-size:64MB}") DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    DataSize maxBodySize() {
+        return maxBodySize;
+    }
+}
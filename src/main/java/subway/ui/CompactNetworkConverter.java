@@ -0,0 +1,40 @@
+package subway.ui;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import subway.domain.NetworkDump;
+
+import java.io.IOException;
+
+// 바이너리 형식은 응답으로만 쓴다. 어떤 형식으로 답할지는 매핑의 produces와 Spring의 내용 협상이 정한다.
+@Component
+class CompactNetworkConverter extends AbstractHttpMessageConverter<NetworkDump> {
+
+    CompactNetworkConverter() {
+        super(CompactResponses.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return NetworkDump.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected NetworkDump readInternal(Class<? extends NetworkDump> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("바이너리 형식은 요청 본문으로 받지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(NetworkDump dump, HttpOutputMessage outputMessage) throws IOException {
+        CompactResponses.writeNetwork(dump, outputMessage.getBody());
+    }
+}
@@ -0,0 +1,70 @@
+package subway.ui;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+final class CompactOutput {
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+
+    CompactOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(bufferSize, MAX_VARINT_LENGTH)];
+    }
+
+    void writeVarint(long value) {
+        if (buffer.length - position < MAX_VARINT_LENGTH) {
+            flush();
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    void writeSignedVarint(long value) {
+        writeVarint((value << 1) ^ (value >> 63));
+    }
+
+    void writeNullableId(Long id) {
+        if (id == null) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(1);
+        writeSignedVarint(id);
+    }
+
+    void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        if (buffer.length - position < bytes.length) {
+            flush();
+        }
+        if (bytes.length > buffer.length) {
+            write(bytes, bytes.length);
+            return;
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    void flush() {
+        write(buffer, position);
+        position = 0;
+    }
+
+    private void write(byte[] bytes, int length) {
+        try {
+            out.write(bytes, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package subway.ui;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.domain.Line;
+import subway.domain.NetworkDump;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.dto.PathBatchItemResponse;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 키오스크용 바이너리 형식. 정수는 모두 LEB128 varint이고, id는 직전 id와의 차이를 zigzag로 적는다.
+// 네트워크: 형식 버전, 플래그(1 = 전체), 버전, [기준 버전], 문자열 표, 역, 삭제된 역, 노선(구간 포함), 삭제된 노선
+// 경로 일괄 조회: 형식 버전 다음에 항목마다 index, 상태, 출발역, 도착역, [거리, 역 개수, 역 id들]
+public final class CompactResponses {
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.subway.compact";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+    private static final int FORMAT_VERSION = 1;
+    private static final int FULL = 1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private CompactResponses() {
+    }
+
+    static void writeNetwork(NetworkDump dump, OutputStream outputStream) {
+        CompactOutput out = new CompactOutput(outputStream, BUFFER_SIZE);
+        out.writeVarint(FORMAT_VERSION);
+        out.writeVarint(dump.isFull() ? FULL : 0);
+        out.writeVarint(dump.getVersion());
+        if (!dump.isFull()) {
+            out.writeVarint(dump.getSinceVersion());
+        }
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        dump.getStations().forEach(station -> strings.putIfAbsent(station.getName(), strings.size()));
+        for (Line line : dump.getLines()) {
+            strings.putIfAbsent(line.getName(), strings.size());
+            strings.putIfAbsent(line.getColor(), strings.size());
+        }
+        out.writeVarint(strings.size());
+        strings.keySet().forEach(out::writeString);
+
+        out.writeVarint(dump.getStations().size());
+        long previousId = 0;
+        for (Station station : dump.getStations()) {
+            out.writeSignedVarint(station.getId() - previousId);
+            out.writeVarint(strings.get(station.getName()));
+            previousId = station.getId();
+        }
+        writeIds(out, dump.getRemovedStationIds());
+
+        Map<Long, List<Section>> sectionsByLineId = new HashMap<>();
+        for (Section section : dump.getSections()) {
+            sectionsByLineId.computeIfAbsent(section.getLineId(), ignored -> new ArrayList<>()).add(section);
+        }
+        out.writeVarint(dump.getLines().size());
+        previousId = 0;
+        long previousSectionId = 0;
+        long previousStationId = 0;
+        for (Line line : dump.getLines()) {
+            out.writeSignedVarint(line.getId() - previousId);
+            out.writeVarint(strings.get(line.getName()));
+            out.writeVarint(strings.get(line.getColor()));
+            previousId = line.getId();
+            List<Section> sections = sectionsByLineId.getOrDefault(line.getId(), List.of());
+            out.writeVarint(sections.size());
+            for (Section section : sections) {
+                out.writeSignedVarint(section.getId() - previousSectionId);
+                out.writeSignedVarint(section.getUpStationId() - previousStationId);
+                out.writeSignedVarint(section.getDownStationId() - section.getUpStationId());
+                out.writeVarint(section.getDistance());
+                previousSectionId = section.getId();
+                previousStationId = section.getDownStationId();
+            }
+        }
+        writeIds(out, dump.getRemovedLineIds());
+        out.flush();
+    }
+
+    private static void writeIds(CompactOutput out, List<Long> ids) {
+        out.writeVarint(ids.size());
+        long previousId = 0;
+        for (Long id : ids) {
+            out.writeSignedVarint(id - previousId);
+            previousId = id;
+        }
+    }
+
+    static ResponseEntity<StreamingResponseBody> pathBatch(Consumer<Consumer<PathBatchItemResponse>> exporter) {
+        StreamingResponseBody body = outputStream -> {
+            CompactOutput out = new CompactOutput(outputStream, BUFFER_SIZE);
+            out.writeVarint(FORMAT_VERSION);
+            exporter.accept(item -> writePathBatchItem(out, item));
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MEDIA_TYPE)
+                .body(body);
+    }
+
+    private static void writePathBatchItem(CompactOutput out, PathBatchItemResponse item) {
+        out.writeVarint(item.getIndex());
+        out.writeVarint(item.getStatus().ordinal());
+        out.writeNullableId(item.getSource());
+        out.writeNullableId(item.getTarget());
+        if (item.getStationIds() == null) {
+            return;
+        }
+        out.writeVarint(item.getDistance());
+        writeIds(out, item.getStationIds());
+    }
+}
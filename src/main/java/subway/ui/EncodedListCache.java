@@ -0,0 +1,209 @@
+package subway.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+import subway.application.SubwayNetworkRefreshedEvent;
+import subway.dao.SingleFlight;
+import subway.domain.NetworkVersion;
+import subway.dto.PageResponse;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+class EncodedListCache {
+    private static final Logger log = LoggerFactory.getLogger(EncodedListCache.class);
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ExecutorService encoder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "list-encoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    EncodedListCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void register(String path, Supplier<NetworkVersion> version, Supplier<PageResponse<?>> renderer) {
+        entries.put(path, new Entry(path, version, renderer));
+    }
+
+    // 압축 여부에 따라 ETag가 달라지므로 304 판단도 실제로 보낼 본문을 고른 뒤에 한다.
+    // 아직 압축본이 없으면 압축하지 않은 본문을 보낸다.
+    ResponseEntity<byte[]> respond(String path, WebRequest webRequest) {
+        EncodedList list = entries.get(path).get();
+        String contentCoding = list.gzip != null && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)) ? GZIP : null;
+        if (NetworkVersionResponses.isNotModified(webRequest, list.version, contentCoding)) {
+            return NetworkVersionResponses.notModified(list.version, contentCoding)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder builder = NetworkVersionResponses.encoded(list.version, contentCoding)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (list.link != null) {
+            builder.header(HttpHeaders.LINK, list.link);
+        }
+        if (contentCoding != null) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, contentCoding).body(list.gzip);
+        }
+        return builder.body(list.identity);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    @EventListener
+    public void refresh(SubwayNetworkRefreshedEvent event) {
+        scheduleEncoding();
+    }
+
+    private void scheduleEncoding() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            encoder.execute(() -> {
+                refreshQueued.set(false);
+                try {
+                    entries.values().forEach(Entry::precompute);
+                } catch (RuntimeException e) {
+                    log.warn("목록 응답을 미리 인코딩하지 못했습니다.", e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        encoder.shutdownNow();
+    }
+
+    private final class Entry {
+        private final String path;
+        private final Supplier<NetworkVersion> version;
+        private final Supplier<PageResponse<?>> renderer;
+        private final AtomicReference<EncodedList> current = new AtomicReference<>();
+        private final SingleFlight<NetworkVersion, EncodedList> renders = new SingleFlight<>();
+
+        Entry(String path, Supplier<NetworkVersion> version, Supplier<PageResponse<?>> renderer) {
+            this.path = path;
+            this.version = version;
+            this.renderer = renderer;
+        }
+
+        // 인코딩 스레드보다 먼저 온 요청은 같은 버전끼리 한 번만 렌더링하고, 압축은 인코딩 스레드에 맡긴다.
+        EncodedList get() {
+            NetworkVersion currentVersion = version.get();
+            EncodedList list = current.get();
+            if (list != null && list.version.equals(currentVersion)) {
+                return list;
+            }
+            EncodedList rendered = renders.execute(currentVersion, () -> store(render()));
+            scheduleEncoding();
+            return rendered;
+        }
+
+        void precompute() {
+            NetworkVersion currentVersion = version.get();
+            EncodedList list = current.get();
+            if (list == null || !list.version.equals(currentVersion)) {
+                list = renders.execute(currentVersion, () -> store(render()));
+            }
+            if (list.gzip == null) {
+                store(list.withGzip());
+            }
+        }
+
+        private EncodedList render() {
+            NetworkVersion renderedVersion = version.get();
+            PageResponse<?> page = renderer.get();
+            return new EncodedList(renderedVersion, encode(page.getItems()),
+                    page.hasNext() ? PageResponses.nextLink(path, page) : null, null);
+        }
+
+        // 렌더링하는 사이 버전이 바뀌었으면 돌려주기만 하고 저장하지 않는다.
+        private EncodedList store(EncodedList list) {
+            if (list.version.equals(version.get())) {
+                current.accumulateAndGet(list, EncodedList::preferred);
+            }
+            return list;
+        }
+
+        private byte[] encode(Object items) {
+            try {
+                return objectMapper.writeValueAsBytes(items);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class EncodedList {
+        private final NetworkVersion version;
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final String link;
+
+        EncodedList(NetworkVersion version, byte[] identity, String link, byte[] gzip) {
+            this.version = version;
+            this.identity = identity;
+            this.link = link;
+            this.gzip = gzip;
+        }
+
+        EncodedList withGzip() {
+            return gzip != null ? this : new EncodedList(version, identity, link, gzip(identity));
+        }
+
+        // 새 버전을 먼저 고르고, 같은 버전이면 압축본까지 있는 쪽을 남긴다.
+        static EncodedList preferred(EncodedList existing, EncodedList candidate) {
+            if (existing == null || candidate.version.getValue() > existing.version.getValue()) {
+                return candidate;
+            }
+            if (candidate.version.equals(existing.version) && existing.gzip == null) {
+                return candidate;
+            }
+            return existing;
+        }
+
+        private static byte[] gzip(byte[] identity) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(identity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    }
+}
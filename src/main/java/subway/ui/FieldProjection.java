@@ -0,0 +1,44 @@
+package subway.ui;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class FieldProjection<T> {
+    private final Map<String, Function<T, Object>> accessors;
+
+    private FieldProjection(Map<String, Function<T, Object>> accessors) {
+        this.accessors = accessors;
+    }
+
+    static <T> FieldProjection<T> of(Map<String, Function<T, Object>> accessors) {
+        return new FieldProjection<>(Collections.unmodifiableMap(new LinkedHashMap<>(accessors)));
+    }
+
+    Function<T, Map<String, Object>> select(String fields) {
+        List<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("조회할 필드를 지정해야 합니다.");
+        }
+        for (String field : selected) {
+            if (!accessors.containsKey(field)) {
+                throw new IllegalArgumentException("조회할 수 없는 필드입니다: " + field);
+            }
+        }
+        return item -> {
+            Map<String, Object> projected = new LinkedHashMap<>();
+            for (String field : selected) {
+                projected.put(field, accessors.get(field).apply(item));
+            }
+            return projected;
+        };
+    }
+}
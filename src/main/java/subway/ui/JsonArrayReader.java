@@ -0,0 +1,56 @@
+package subway.ui;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+class JsonArrayReader<T> implements Iterator<T> {
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final Class<T> type;
+    private JsonToken current;
+
+    JsonArrayReader(ObjectMapper objectMapper, InputStream inputStream, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        try {
+            this.parser = objectMapper.getFactory().createParser(inputStream);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 JSON 배열이어야 합니다.");
+            }
+            this.current = parser.nextToken();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current == JsonToken.START_OBJECT) {
+            return true;
+        }
+        if (current == JsonToken.END_ARRAY) {
+            return false;
+        }
+        throw new IllegalArgumentException("배열의 각 항목은 JSON 객체여야 합니다.");
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T value = objectMapper.readValue(parser, type);
+            current = parser.nextToken();
+            return value;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문을 읽을 수 없습니다.", e);
+        }
+    }
+}
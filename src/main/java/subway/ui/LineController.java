@@ -1,55 +1,126 @@
 package subway.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.application.DatabaseExecutor;
+import subway.application.DuplicateNameException;
 import subway.application.LineService;
+import subway.dto.BulkResponse;
 import subway.dto.LineRequest;
 import subway.dto.LineResponse;
+import subway.dto.PageResponse;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.sql.SQLException;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/lines")
 public class LineController {
+    private static final FieldProjection<LineResponse> PROJECTION = FieldProjection.of(Map.<String, Function<LineResponse, Object>>of(
+            "id", LineResponse::getId,
+            "name", LineResponse::getName,
+            "color", LineResponse::getColor,
+            "stations", LineResponse::getStations
+    ));
 
     private final LineService lineService;
+    private final ObjectMapper objectMapper;
+    private final PageLimits pageLimits;
+    private final DatabaseExecutor databaseExecutor;
+    private final BulkLimits bulkLimits;
 
-    public LineController(LineService lineService) {
+    private final EncodedListCache encodedListCache;
+
+    public LineController(LineService lineService, ObjectMapper objectMapper, PageLimits pageLimits,
+                          DatabaseExecutor databaseExecutor, BulkLimits bulkLimits, EncodedListCache encodedListCache) {
         this.lineService = lineService;
+        this.objectMapper = objectMapper;
+        this.pageLimits = pageLimits;
+        this.databaseExecutor = databaseExecutor;
+        this.bulkLimits = bulkLimits;
+        this.encodedListCache = encodedListCache;
+        encodedListCache.register("/lines", lineService::findNetworkVersion,
+                () -> lineService.findLineResponses(pageLimits.unpaged()));
     }
 
     @PostMapping
-    public ResponseEntity<LineResponse> createLine(@RequestBody LineRequest lineRequest) {
-        LineResponse line = lineService.saveLine(lineRequest);
-        return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
+    public CompletableFuture<ResponseEntity<LineResponse>> createLine(@RequestBody LineRequest lineRequest) {
+        return databaseExecutor.supply(() -> lineService.saveLine(lineRequest))
+                .thenApply(line -> ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line));
+    }
+
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<BulkResponse>> createLines(InputStream inputStream) {
+        BodySpool spool = BodySpool.copyOf(inputStream, bulkLimits.maxBodySize());
+        return databaseExecutor.supply(() -> spool.read(body ->
+                        lineService.saveLines(new JsonArrayReader<>(objectMapper, body, LineRequest.class))))
+                .whenComplete((response, e) -> spool.delete())
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(params = {"!after", "!limit", "!fields"})
+    public ResponseEntity<byte[]> findAllLines(WebRequest webRequest) {
+        return encodedListCache.respond("/lines", webRequest);
     }
 
     @GetMapping
-    public ResponseEntity<List<LineResponse>> findAllLines() {
-        return ResponseEntity.ok(lineService.findLineResponses());
+    public CompletableFuture<ResponseEntity<PageResponse<?>>> findLinePage(@RequestParam(required = false) String after,
+                                                                           @RequestParam(required = false) Integer limit,
+                                                                           @RequestParam(required = false) String fields) {
+        int resolvedLimit = pageLimits.resolve(limit);
+        return databaseExecutor.supply(() -> lineService.findLinePage(after, resolvedLimit))
+                .thenApply(page -> PageResponses.paged(page, PROJECTION, fields));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLines() {
+        return NdjsonResponses.stream(objectMapper, LineResponse.class, lineService::exportLines);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> findLineById(@PathVariable Long id) {
-        return ResponseEntity.ok(lineService.findLineResponseById(id));
+    public CompletableFuture<ResponseEntity<LineResponse>> findLineById(@PathVariable Long id) {
+        return lineService.findLineResponseById(id)
+                .thenApply(line -> line.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build()));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Void> updateLine(@PathVariable Long id, @RequestBody LineRequest lineUpdateRequest) {
-        lineService.updateLine(id, lineUpdateRequest);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> updateLine(@PathVariable Long id, @RequestBody LineRequest lineUpdateRequest) {
+        return databaseExecutor.run(() -> lineService.updateLine(id, lineUpdateRequest))
+                .thenApply(ignored -> ResponseEntity.ok().build());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteLine(@PathVariable Long id) {
-        lineService.deleteLineById(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteLine(@PathVariable Long id) {
+        return databaseExecutor.run(() -> lineService.deleteLineById(id))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
 
-    @ExceptionHandler(SQLException.class)
-    public ResponseEntity<Void> handleSQLException() {
+    @ExceptionHandler({SQLException.class, IllegalArgumentException.class})
+    public ResponseEntity<Void> handleBadRequest() {
         return ResponseEntity.badRequest().build();
     }
+
+    @ExceptionHandler({DuplicateNameException.class, DuplicateKeyException.class})
+    public ResponseEntity<Void> handleConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler({RejectedExecutionException.class, TimeoutException.class, QueryTimeoutException.class,
+            TransactionTimedOutException.class})
+    public ResponseEntity<Void> handleServiceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
 }
@@ -0,0 +1,37 @@
+package subway.ui;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import subway.application.NetworkService;
+import subway.domain.NetworkDump;
+import subway.dto.NetworkDumpResponse;
+
+@RestController
+@RequestMapping("/network")
+public class NetworkController {
+    private final NetworkService networkService;
+
+    public NetworkController(NetworkService networkService) {
+        this.networkService = networkService;
+    }
+
+    @GetMapping
+    public ResponseEntity<NetworkDumpResponse> showNetwork(@RequestParam(required = false) Long since) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(NetworkDumpResponse.of(networkService.findDump(since)));
+    }
+
+    @GetMapping(produces = CompactResponses.MEDIA_TYPE_VALUE)
+    public ResponseEntity<NetworkDump> showCompactNetwork(@RequestParam(required = false) Long since) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(networkService.findDump(since));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgumentException() {
+        return ResponseEntity.badRequest().build();
+    }
+}
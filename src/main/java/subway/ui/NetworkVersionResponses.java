@@ -0,0 +1,50 @@
+package subway.ui;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import subway.domain.NetworkVersion;
+
+final class NetworkVersionResponses {
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    private NetworkVersionResponses() {
+    }
+
+    static boolean isNotModified(WebRequest webRequest, NetworkVersion version) {
+        return isNotModified(webRequest, version, null);
+    }
+
+    static boolean isNotModified(WebRequest webRequest, NetworkVersion version, String contentCoding) {
+        return webRequest.checkNotModified(eTag(version, contentCoding), version.getPublishedAt());
+    }
+
+    static <T> ResponseEntity<T> notModified(NetworkVersion version) {
+        return notModified(version, null).build();
+    }
+
+    static ResponseEntity.BodyBuilder notModified(NetworkVersion version, String contentCoding) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CACHE_CONTROL)
+                .eTag(eTag(version, contentCoding))
+                .lastModified(version.getPublishedAt());
+    }
+
+    static <T> ResponseEntity<T> ok(NetworkVersion version, T body) {
+        return encoded(version, null).body(body);
+    }
+
+    static ResponseEntity.BodyBuilder encoded(NetworkVersion version, String contentCoding) {
+        return ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .eTag(eTag(version, contentCoding))
+                .lastModified(version.getPublishedAt());
+    }
+
+    // 강한 검증자는 본문의 바이트마다 달라야 하므로 압축한 본문에는 인코딩을 붙인 ETag를 준다.
+    private static String eTag(NetworkVersion version, String contentCoding) {
+        String value = Long.toHexString(version.getValue());
+        return contentCoding == null ? "\"" + value + "\"" : "\"" + value + "-" + contentCoding + "\"";
+    }
+}
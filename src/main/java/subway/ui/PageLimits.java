@@ -0,0 +1,47 @@
+package subway.ui;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+class PageLimits {
+    private final int defaultLimit;
+    private final int maxLimit;
+    private final int unpagedLimit;
+    private final int searchDefaultLimit;
+    private final int searchMaxLimit;
+
+    PageLimits(@Value("${subway.pagination.default-limit:100}") int defaultLimit,
+               @Value("${subway.pagination.max-limit:1000}") int maxLimit,
+               @Value("${subway.pagination.unpaged-limit:10000}") int unpagedLimit,
+               @Value("${subway.search.default-limit:10}") int searchDefaultLimit,
+               @Value("${subway.search.max-limit:50}") int searchMaxLimit) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+        this.unpagedLimit = unpagedLimit;
+        this.searchDefaultLimit = searchDefaultLimit;
+        this.searchMaxLimit = searchMaxLimit;
+    }
+
+    int resolve(Integer limit) {
+        return resolve(limit, defaultLimit, maxLimit);
+    }
+
+    int resolveSearch(Integer limit) {
+        return resolve(limit, searchDefaultLimit, searchMaxLimit);
+    }
+
+    private static int resolve(Integer limit, int defaultLimit, int maxLimit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 개수는 0보다 커야 합니다.");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    int unpaged() {
+        return unpagedLimit;
+    }
+}
@@ -0,0 +1,24 @@
+package subway.ui;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+import subway.dto.PageResponse;
+
+final class PageResponses {
+    private PageResponses() {
+    }
+
+    static <T> ResponseEntity<PageResponse<?>> paged(PageResponse<T> page, FieldProjection<T> projection, String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(page);
+        }
+        return ResponseEntity.ok(page.map(projection.select(fields)));
+    }
+
+    static String nextLink(String path, PageResponse<?> page) {
+        String uri = UriComponentsBuilder.fromPath(path)
+                .queryParam("after", page.getNext())
+                .toUriString();
+        return "<" + uri + ">; rel=\"next\"";
+    }
+}
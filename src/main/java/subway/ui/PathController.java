@@ -0,0 +1,62 @@
+package subway.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.application.PathBatch;
+import subway.application.PathBatchService;
+import subway.application.PathService;
+import subway.domain.PathCriteria;
+import subway.dto.PathBatchItemResponse;
+import subway.dto.PathRequest;
+import subway.dto.PathResponse;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/paths")
+public class PathController {
+    private final PathService pathService;
+    private final PathBatchService pathBatchService;
+    private final ObjectMapper objectMapper;
+
+    public PathController(PathService pathService, PathBatchService pathBatchService, ObjectMapper objectMapper) {
+        this.pathService = pathService;
+        this.pathBatchService = pathBatchService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    public ResponseEntity<PathResponse> findShortestPath(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok(pathService.findShortestPath(source, target));
+    }
+
+    @GetMapping(params = "criteria")
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                 @RequestParam String criteria) {
+        return ResponseEntity.ok(pathService.findPath(source, target, PathCriteria.from(criteria)));
+    }
+
+    @GetMapping(params = "criteria=pareto")
+    public ResponseEntity<List<PathResponse>> findParetoPaths(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok(pathService.findParetoPaths(source, target));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> findPaths(@RequestBody List<PathRequest> pathRequests) {
+        PathBatch batch = pathBatchService.prepare(pathRequests);
+        return NdjsonResponses.stream(objectMapper, PathBatchItemResponse.class, batch::run);
+    }
+
+    @PostMapping(value = "/batch", produces = CompactResponses.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> findCompactPaths(@RequestBody List<PathRequest> pathRequests) {
+        PathBatch batch = pathBatchService.prepare(pathRequests);
+        return CompactResponses.pathBatch(batch::run);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgumentException() {
+        return ResponseEntity.badRequest().build();
+    }
+}
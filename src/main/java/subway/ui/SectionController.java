@@ -0,0 +1,60 @@
+package subway.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.application.DatabaseExecutor;
+import subway.application.SectionService;
+import subway.dto.SectionRequest;
+import subway.dto.SectionResponse;
+
+import java.net.URI;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+@RestController
+public class SectionController {
+    private final SectionService sectionService;
+    private final ObjectMapper objectMapper;
+    private final DatabaseExecutor databaseExecutor;
+
+    public SectionController(SectionService sectionService, ObjectMapper objectMapper, DatabaseExecutor databaseExecutor) {
+        this.sectionService = sectionService;
+        this.objectMapper = objectMapper;
+        this.databaseExecutor = databaseExecutor;
+    }
+
+    @PostMapping("/lines/{lineId}/sections")
+    public CompletableFuture<ResponseEntity<Void>> createSection(@PathVariable Long lineId, @RequestBody SectionRequest sectionRequest) {
+        return databaseExecutor.run(() -> sectionService.addSection(lineId, sectionRequest))
+                .thenApply(ignored -> ResponseEntity.created(URI.create("/lines/" + lineId)).build());
+    }
+
+    @DeleteMapping("/lines/{lineId}/sections")
+    public CompletableFuture<ResponseEntity<Void>> deleteSection(@PathVariable Long lineId, @RequestParam Long stationId) {
+        return databaseExecutor.run(() -> sectionService.removeStation(lineId, stationId))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/sections/export")
+    public ResponseEntity<StreamingResponseBody> exportSections() {
+        return NdjsonResponses.stream(objectMapper, SectionResponse.class, sectionService::exportSections);
+    }
+
+    @ExceptionHandler({SQLException.class, IllegalArgumentException.class})
+    public ResponseEntity<Void> handleBadRequest() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    @ExceptionHandler({RejectedExecutionException.class, TimeoutException.class, QueryTimeoutException.class,
+            TransactionTimedOutException.class})
+    public ResponseEntity<Void> handleServiceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+}
@@ -1,54 +1,159 @@
 package subway.ui;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.domain.NetworkVersion;
+import subway.dto.BulkResponse;
+import subway.dto.PageResponse;
+import subway.dto.ReachableStationResponse;
 import subway.dto.StationRequest;
 import subway.dto.StationResponse;
+import subway.application.DatabaseExecutor;
+import subway.application.DuplicateNameException;
 import subway.application.StationService;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/stations")
 public class StationController {
+    private static final FieldProjection<StationResponse> PROJECTION = FieldProjection.of(Map.<String, Function<StationResponse, Object>>of(
+            "id", StationResponse::getId,
+            "name", StationResponse::getName
+    ));
+
     private final StationService stationService;
+    private final ObjectMapper objectMapper;
+    private final PageLimits pageLimits;
+    private final DatabaseExecutor databaseExecutor;
+    private final BulkLimits bulkLimits;
+
+    private final EncodedListCache encodedListCache;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, ObjectMapper objectMapper, PageLimits pageLimits,
+                             DatabaseExecutor databaseExecutor, BulkLimits bulkLimits, EncodedListCache encodedListCache) {
         this.stationService = stationService;
+        this.objectMapper = objectMapper;
+        this.pageLimits = pageLimits;
+        this.databaseExecutor = databaseExecutor;
+        this.bulkLimits = bulkLimits;
+        this.encodedListCache = encodedListCache;
+        encodedListCache.register("/stations", stationService::findNetworkVersion,
+                () -> stationService.findStationResponses(pageLimits.unpaged()));
     }
 
     @PostMapping
-    public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
-        StationResponse station = stationService.saveStation(stationRequest);
-        return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
+    public CompletableFuture<ResponseEntity<StationResponse>> createStation(@RequestBody StationRequest stationRequest) {
+        return databaseExecutor.supply(() -> stationService.saveStation(stationRequest))
+                .thenApply(station -> ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station));
+    }
+
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<BulkResponse>> createStations(InputStream inputStream) {
+        BodySpool spool = BodySpool.copyOf(inputStream, bulkLimits.maxBodySize());
+        return databaseExecutor.supply(() -> spool.read(body ->
+                        stationService.saveStations(new JsonArrayReader<>(objectMapper, body, StationRequest.class))))
+                .whenComplete((response, e) -> spool.delete())
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping(params = {"!after", "!limit", "!fields"})
+    public ResponseEntity<byte[]> showStations(WebRequest webRequest) {
+        return encodedListCache.respond("/stations", webRequest);
     }
 
     @GetMapping
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStationResponses());
+    public CompletableFuture<ResponseEntity<PageResponse<?>>> showStationPage(@RequestParam(required = false) String after,
+                                                                              @RequestParam(required = false) Integer limit,
+                                                                              @RequestParam(required = false) String fields) {
+        int resolvedLimit = pageLimits.resolve(limit);
+        return databaseExecutor.supply(() -> stationService.findStationPage(after, resolvedLimit))
+                .thenApply(page -> PageResponses.paged(page, PROJECTION, fields));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<StationResponse>> searchStations(@RequestParam String prefix,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                WebRequest webRequest) {
+        int resolvedLimit = pageLimits.resolveSearch(limit);
+        NetworkVersion version = stationService.findNetworkVersion();
+        if (NetworkVersionResponses.isNotModified(webRequest, version)) {
+            return NetworkVersionResponses.notModified(version);
+        }
+        return NetworkVersionResponses.ok(version, stationService.searchStations(prefix, resolvedLimit));
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> showReachableStations(@RequestParam List<Long> origins,
+                                                                                @RequestParam(required = false) Integer maxDistance,
+                                                                                @RequestParam(required = false) Integer maxTransfers,
+                                                                                WebRequest webRequest) {
+        NetworkVersion version = stationService.findNetworkVersion();
+        if (NetworkVersionResponses.isNotModified(webRequest, version)) {
+            return NetworkVersionResponses.notModified(version);
+        }
+        return NetworkVersionResponses.ok(version, stationService.findReachableStations(origins, maxDistance, maxTransfers));
+    }
+
+    @GetMapping("/{id}/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> showReachableStations(@PathVariable Long id,
+                                                                                @RequestParam(required = false) Integer maxDistance,
+                                                                                @RequestParam(required = false) Integer maxTransfers,
+                                                                                WebRequest webRequest) {
+        return showReachableStations(List.of(id), maxDistance, maxTransfers, webRequest);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStations() {
+        return NdjsonResponses.stream(objectMapper, StationResponse.class, stationService::exportStations);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StationResponse> showStation(@PathVariable Long id) {
-        return ResponseEntity.ok().body(stationService.findStationResponseById(id));
+    public CompletableFuture<ResponseEntity<StationResponse>> showStation(@PathVariable Long id) {
+        return stationService.findStationResponseById(id)
+                .thenApply(station -> station.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build()));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Void> updateStation(@PathVariable Long id, @RequestBody StationRequest stationRequest) {
-        stationService.updateStation(id, stationRequest);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> updateStation(@PathVariable Long id, @RequestBody StationRequest stationRequest) {
+        return databaseExecutor.run(() -> stationService.updateStation(id, stationRequest))
+                .thenApply(ignored -> ResponseEntity.ok().build());
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteStation(@PathVariable Long id) {
-        stationService.deleteStationById(id);
-        return ResponseEntity.noContent().build();
+    public CompletableFuture<ResponseEntity<Void>> deleteStation(@PathVariable Long id) {
+        return databaseExecutor.run(() -> stationService.deleteStationById(id))
+                .thenApply(ignored -> ResponseEntity.noContent().build());
     }
 
-    @ExceptionHandler(SQLException.class)
-    public ResponseEntity<Void> handleSQLException() {
+    @ExceptionHandler({SQLException.class, IllegalArgumentException.class})
+    public ResponseEntity<Void> handleBadRequest() {
         return ResponseEntity.badRequest().build();
     }
+
+    @ExceptionHandler({DuplicateNameException.class, DuplicateKeyException.class})
+    public ResponseEntity<Void> handleConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler({RejectedExecutionException.class, TimeoutException.class, QueryTimeoutException.class,
+            TransactionTimedOutException.class})
+    public ResponseEntity<Void> handleServiceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
 }
@@ -0,0 +1,76 @@
+package subway.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("접근 로그 링 버퍼")
+class AccessLogRingBufferTest {
+
+    @DisplayName("가득 차면 새 항목을 거절하고, 꺼낸 만큼 다시 받는다.")
+    @Test
+    void rejectWhenFull() {
+        // given
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(2);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        // when
+        boolean acceptedWhenFull = buffer.offer(3);
+        Integer first = buffer.poll();
+        boolean acceptedAfterPoll = buffer.offer(3);
+
+        // then
+        assertThat(acceptedWhenFull).isFalse();
+        assertThat(first).isEqualTo(1);
+        assertThat(acceptedAfterPoll).isTrue();
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @DisplayName("여러 스레드가 동시에 넣어도 받아들인 항목은 빠짐없이 한 번씩 꺼낸다.")
+    @Test
+    void concurrentProducers() throws InterruptedException {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // when
+        for (int producer = 0; producer < producers; producer++) {
+            int base = producer * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        Set<Integer> consumed = new HashSet<>();
+        while (consumed.size() < producers * perProducer) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertThat(consumed.add(value)).isTrue();
+            }
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,96 @@
+package subway.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DB 작업 실행기")
+class DatabaseExecutorTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private DatabaseExecutor databaseExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        databaseExecutor.shutdown();
+    }
+
+    @DisplayName("대기열이 가득 차면 작업을 기다리지 않고 바로 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() {
+        // given
+        databaseExecutor = new DatabaseExecutor(1, 1, Duration.ofSeconds(10));
+        databaseExecutor.run(this::awaitRelease);
+        databaseExecutor.run(this::awaitRelease);
+
+        // when
+        CompletableFuture<Void> rejected = databaseExecutor.run(() -> {
+        });
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(databaseExecutor.rejectedCount()).isEqualTo(1);
+        assertThat(databaseExecutor.queueDepth()).isEqualTo(1);
+    }
+
+    @DisplayName("제한 시간 안에 시작하지 못한 작업은 실행하지 않고 시간 초과로 실패한다.")
+    @Test
+    void timeoutWhileQueued() throws Exception {
+        // given
+        databaseExecutor = new DatabaseExecutor(1, 1, Duration.ofMillis(50));
+        AtomicBoolean ran = new AtomicBoolean();
+        databaseExecutor.run(this::awaitRelease);
+
+        // when
+        CompletableFuture<Void> future = databaseExecutor.run(() -> ran.set(true));
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+        databaseExecutor.run(() -> {
+        }).get(5, TimeUnit.SECONDS);
+        assertThat(ran).isFalse();
+    }
+
+    @DisplayName("이미 시작한 작업은 제한 시간이 지나도 끝날 때까지 기다려 결과를 돌려준다.")
+    @Test
+    void waitForStartedTask() throws Exception {
+        // given
+        databaseExecutor = new DatabaseExecutor(1, 1, Duration.ofMillis(50));
+
+        // when
+        CompletableFuture<String> future = databaseExecutor.supply(() -> {
+            awaitRelease();
+            return "완료";
+        });
+        Thread.sleep(200);
+
+        // then
+        assertThat(future).isNotDone();
+        release.countDown();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("완료");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package subway.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.dao.StationDao;
+import subway.domain.NetworkChange;
+import subway.domain.Section;
+import subway.domain.Station;
+import subway.domain.SubwayNetworkSnapshot;
+import subway.dto.LineRequest;
+import subway.dto.SectionRequest;
+import subway.dto.StationRequest;
+import subway.dto.StationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 네트워크 스냅샷")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@SpringBootTest
+class SubwayNetworkTest {
+    private static final int READER_COUNT = 4;
+    private static final int LINE_DISTANCE = 10;
+
+    @Autowired
+    private StationService stationService;
+    @Autowired
+    private LineService lineService;
+    @Autowired
+    private SectionService sectionService;
+    @Autowired
+    private SubwayNetwork subwayNetwork;
+    @Autowired
+    private StationDao stationDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Long gyodaeId;
+    private Long gangnamId;
+    private Long yeoksamId;
+    private Long lineId;
+
+    @BeforeEach
+    void setUp() {
+        gyodaeId = stationService.saveStation(new StationRequest("교대역")).getId();
+        gangnamId = stationService.saveStation(new StationRequest("강남역")).getId();
+        yeoksamId = stationService.saveStation(new StationRequest("역삼역")).getId();
+        lineId = lineService.saveLine(new LineRequest("2호선", "bg-green-600")).getId();
+        sectionService.addSection(lineId, new SectionRequest(gyodaeId, yeoksamId, LINE_DISTANCE));
+    }
+
+    @DisplayName("쓰기가 진행되는 동안에도 읽기는 절반만 반영된 상태를 보지 않는다.")
+    @Test
+    void readersNeverSeeHalfAppliedWrite() throws Exception {
+        // given
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        ExecutorService readers = Executors.newFixedThreadPool(READER_COUNT);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < READER_COUNT; i++) {
+            results.add(readers.submit(() -> {
+                while (writing.get()) {
+                    SubwayNetworkSnapshot snapshot = subwayNetwork.snapshot();
+                    int lineDistance = snapshot.findSectionsByLineId(lineId).stream()
+                            .mapToInt(Section::getDistance)
+                            .sum();
+                    int pathDistance = snapshot.findShortestPath(gyodaeId, yeoksamId).getDistance();
+                    if (lineDistance != LINE_DISTANCE || pathDistance != LINE_DISTANCE) {
+                        violations.incrementAndGet();
+                    }
+                    reads.incrementAndGet();
+                }
+            }));
+        }
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            sectionService.addSection(lineId, new SectionRequest(gyodaeId, gangnamId, 4));
+            sectionService.removeStation(lineId, gangnamId);
+        }
+        writing.set(false);
+        readers.shutdown();
+        readers.awaitTermination(10, TimeUnit.SECONDS);
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        // then
+        assertThat(reads.get()).isPositive();
+        assertThat(violations.get()).isZero();
+    }
+
+    @DisplayName("이미 읽어 간 스냅샷은 이후의 쓰기에 영향을 받지 않는다.")
+    @Test
+    void publishedSnapshotIsImmutable() {
+        // given
+        SubwayNetworkSnapshot before = subwayNetwork.snapshot();
+
+        // when
+        stationService.updateStation(gangnamId, new StationRequest("신논현역"));
+
+        // then
+        assertThat(before.findStation(gangnamId)).map(Station::getName).hasValue("강남역");
+        assertThat(subwayNetwork.snapshot().findStation(gangnamId)).map(Station::getName).hasValue("신논현역");
+    }
+
+    @DisplayName("다른 쓰기의 갱신이 먼저 끝나도, 갱신되지 않은 커밋이 남아 있으면 스냅샷에 없는 역을 없다고 답하지 않는다.")
+    @Test
+    void findStationCommittedBeforeOtherRefresh() throws Exception {
+        // given
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Long> seolleungId = new AtomicReference<>();
+        CompletableFuture<Void> write = commitWithDelayedRefresh(committed, release, () -> {
+            Long id = stationDao.insert(new Station("선릉역")).getId();
+            seolleungId.set(id);
+            return NetworkChange.ofStation(id);
+        });
+        committed.await(5, TimeUnit.SECONDS);
+        stationService.saveStation(new StationRequest("삼성역"));
+
+        // when
+        Optional<StationResponse> station = stationService.findStationResponseById(seolleungId.get()).get(5, TimeUnit.SECONDS);
+
+        // then
+        release.countDown();
+        write.get(5, TimeUnit.SECONDS);
+        assertThat(station).map(StationResponse::getName).hasValue("선릉역");
+        assertThat(subwayNetwork.isCurrent(subwayNetwork.snapshot())).isTrue();
+    }
+
+    @DisplayName("이름을 바꾼 쓰기의 갱신이 끝나기 전이라도, 비워진 이름으로 역을 만들 수 있다.")
+    @Test
+    void createWithNameFreedByConcurrentRename() throws Exception {
+        // given
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> rename = commitWithDelayedRefresh(committed, release, () -> {
+            stationDao.update(new Station(gangnamId, "신논현역"));
+            return NetworkChange.ofStation(gangnamId);
+        });
+        committed.await(5, TimeUnit.SECONDS);
+        stationService.saveStation(new StationRequest("삼성역"));
+
+        // when
+        StationResponse created = stationService.saveStation(new StationRequest("강남역"));
+
+        // then
+        release.countDown();
+        rename.get(5, TimeUnit.SECONDS);
+        assertThat(created.getName()).isEqualTo("강남역");
+        assertThat(subwayNetwork.snapshot().findStation(gangnamId)).map(Station::getName).hasValue("신논현역");
+        assertThat(subwayNetwork.snapshot().findStationByName("강남역")).map(Station::getId).hasValue(created.getId());
+    }
+
+    // 쓰기를 커밋한 뒤 스냅샷 갱신 직전에 멈춰, 다른 쓰기의 갱신이 먼저 끝나는 순서를 만든다.
+    private CompletableFuture<Void> commitWithDelayedRefresh(CountDownLatch committed, CountDownLatch release,
+                                                             Supplier<NetworkChange> write) {
+        return CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            NetworkChange change = write.get();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    committed.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            eventPublisher.publishEvent(new SubwayChangedEvent(change));
+        }));
+    }
+}
@@ -0,0 +1,100 @@
+package subway.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("엔티티 캐시")
+class EntityCacheTest {
+
+    @DisplayName("캐시에 없는 값만 불러오고 이후에는 캐시에서 읽는다.")
+    @Test
+    void readThrough() {
+        // given
+        EntityCache<Long, String> cache = new EntityCache<>(10, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, key -> "강남역" + loads.incrementAndGet());
+        String cached = cache.get(1L, key -> "강남역" + loads.incrementAndGet());
+
+        // then
+        assertThat(cached).isEqualTo("강남역1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 값을 내보낸다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        EntityCache<Long, String> cache = new EntityCache<>(2, Duration.ZERO);
+        cache.put(1L, "강남역");
+        cache.put(2L, "역삼역");
+        cache.get(1L);
+
+        // when
+        cache.put(3L, "선릉역");
+
+        // then
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(1L)).hasValue("강남역");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+    }
+
+    @DisplayName("가중치 합이 예산을 넘으면 오래된 값부터 내보내고 예산보다 큰 값은 담지 않는다.")
+    @Test
+    void evictByWeight() {
+        // given
+        EntityCache<Long, String> cache = new EntityCache<>(10, Duration.ZERO, (key, value) -> value.length());
+        cache.put(1L, "강남역");
+        cache.put(2L, "역삼역");
+
+        // when
+        cache.put(3L, "남부터미널역");
+        cache.put(4L, "아주아주아주긴이름의역");
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(4L)).isEmpty();
+        assertThat(cache.get(2L)).hasValue("역삼역");
+        assertThat(cache.get(3L)).hasValue("남부터미널역");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @DisplayName("유효 기간이 지난 값은 다시 불러온다.")
+    @Test
+    void expireAfterTtl() throws InterruptedException {
+        // given
+        EntityCache<Long, String> cache = new EntityCache<>(10, Duration.ofMillis(10));
+        cache.put(1L, "강남역");
+
+        // when
+        Thread.sleep(20);
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @DisplayName("불러오는 도중 무효화되면 읽은 값을 캐시에 넣지 않는다.")
+    @Test
+    void skipStaleLoad() {
+        // given
+        EntityCache<Long, String> cache = new EntityCache<>(10, Duration.ZERO);
+
+        // when
+        cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "강남역";
+        });
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package subway.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("같은 키의 동시 조회 합치기")
+class SingleFlightTest {
+
+    @DisplayName("진행 중인 조회가 있으면 다시 불러오지 않고 그 결과를 기다린다.")
+    @Test
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> singleFlight.execute(1L, () -> {
+            started.countDown();
+            await(release);
+            return "강남역" + loads.incrementAndGet();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(
+                () -> singleFlight.execute(1L, () -> "강남역" + loads.incrementAndGet()));
+        while (singleFlight.stats().getCoalesced() == 0) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("강남역1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("강남역1");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @DisplayName("조회가 실패하면 예외를 그대로 던지고 다음 조회는 다시 불러온다.")
+    @Test
+    void retryAfterFailure() {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        // when
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+            throw new IllegalArgumentException("존재하지 않는 역입니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(singleFlight.execute(1L, () -> "강남역")).isEqualTo("강남역");
+    }
+
+    @DisplayName("비동기 조회에 합류한 요청은 같은 결과와 같은 실패를 받는다.")
+    @Test
+    void shareAsyncResult() {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> loading = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.executeAsync(1L, () -> loading);
+        CompletableFuture<String> second = singleFlight.executeAsync(1L, CompletableFuture::new);
+
+        // when
+        loading.completeExceptionally(new TimeoutException());
+
+        // then
+        assertThatThrownBy(first::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(singleFlight.stats().getLoads()).isEqualTo(1);
+        assertThat(singleFlight.stats().getCoalesced()).isEqualTo(1);
+        assertThat(singleFlight.stats().getFailures()).isEqualTo(1);
+    }
+
+    @DisplayName("잊은 키는 진행 중인 조회가 있어도 새로 불러온다.")
+    @Test
+    void loadAgainAfterForget() {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        singleFlight.executeAsync(1L, () -> stale);
+
+        // when
+        singleFlight.forget(1L);
+        CompletableFuture<String> fresh = singleFlight.executeAsync(1L, () -> CompletableFuture.completedFuture("강남역"));
+        stale.complete("역삼역");
+
+        // then
+        assertThat(fresh.join()).isEqualTo("강남역");
+        assertThat(singleFlight.stats().getLoads()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("노선 기반 다기준 경로 탐색")
+class LineRouterTest {
+    private final Station a = new Station(1L, "A역");
+    private final Station b = new Station(2L, "B역");
+    private final Station c = new Station(3L, "C역");
+    private final Station d = new Station(4L, "D역");
+    private final Station e = new Station(5L, "E역");
+    private final Station f = new Station(6L, "F역");
+    private final Station isolated = new Station(7L, "G역");
+
+    private SubwayNetworkSnapshot snapshot;
+
+    /**
+     * 1호선: A --10-- B --10-- C --10-- D
+     * 2호선: A --5-- E
+     * 3호선: E --5-- D
+     * 4호선: A --2-- F
+     * 5호선: F --1-- E
+     */
+    @BeforeEach
+    void setUp() {
+        snapshot = SubwayNetworkSnapshot.of(
+                List.of(a, b, c, d, e, f, isolated),
+                List.of(line(1L), line(2L), line(3L), line(4L), line(5L)),
+                List.of(
+                        new Section(1L, 1L, 1L, 2L, 10),
+                        new Section(2L, 1L, 2L, 3L, 10),
+                        new Section(3L, 1L, 3L, 4L, 10),
+                        new Section(4L, 2L, 1L, 5L, 5),
+                        new Section(5L, 3L, 5L, 4L, 5),
+                        new Section(6L, 4L, 1L, 6L, 2),
+                        new Section(7L, 5L, 6L, 5L, 1)
+                )
+        );
+    }
+
+    @DisplayName("환승 횟수와 거리 모두에서 다른 경로보다 나쁘지 않은 경로들을 환승이 적은 순서로 찾는다.")
+    @Test
+    void findParetoJourneys() {
+        // when
+        List<Journey> journeys = snapshot.findParetoJourneys(1L, 4L);
+
+        // then
+        assertThat(journeys).extracting(Journey::getTransfers).containsExactly(0, 1, 2);
+        assertThat(journeys).extracting(Journey::getDistance).containsExactly(30, 10, 8);
+        assertThat(journeys.get(0).getStations()).containsExactly(a, b, c, d);
+        assertThat(journeys.get(2).getStations()).containsExactly(a, f, e, d);
+        assertThat(lineIds(journeys.get(2))).containsExactly(4L, 5L, 3L);
+    }
+
+    @DisplayName("구간의 방향과 반대로도 경로를 찾고, 기준에 따라 한 경로를 고른다.")
+    @Test
+    void findJourneyInReverseByCriteria() {
+        // when
+        List<Journey> journeys = snapshot.findParetoJourneys(4L, 1L);
+
+        // then
+        assertThat(PathCriteria.TRANSFERS.select(journeys).getStations()).containsExactly(d, c, b, a);
+        assertThat(PathCriteria.DISTANCE.select(journeys).getStations()).containsExactly(d, e, f, a);
+        assertThat(PathCriteria.DISTANCE.select(journeys).getDistance())
+                .isEqualTo(snapshot.findShortestPath(4L, 1L).getDistance());
+    }
+
+    @DisplayName("같은 역이나 연결되지 않은 역 사이의 경로는 찾을 수 없다.")
+    @Test
+    void findJourneyWithInvalidStations() {
+        assertThatThrownBy(() -> snapshot.findParetoJourneys(1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.findParetoJourneys(1L, 7L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.findParetoJourneys(1L, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("거리와 환승 예산 안에서 도달할 수 있는 역을 가까운 순서로 찾는다.")
+    @Test
+    void findReachable() {
+        // given
+        Reachability reachability = new Reachability();
+
+        // when
+        snapshot.findReachable(List.of(1L), 8, Integer.MAX_VALUE, reachability);
+        List<Station> withinDistance = stations(reachability);
+        List<Integer> distances = distances(reachability);
+        List<Integer> transfers = transfers(reachability);
+        snapshot.findReachable(List.of(1L), 8, 1, reachability);
+
+        // then
+        assertThat(withinDistance).containsExactly(f, e, d);
+        assertThat(distances).containsExactly(2, 3, 8);
+        assertThat(transfers).containsExactly(0, 0, 2);
+        assertThat(stations(reachability)).containsExactly(f, e);
+    }
+
+    @DisplayName("여러 출발역에서 동시에 도달할 수 있는 역을 찾고, 출발역은 결과에서 제외한다.")
+    @Test
+    void findReachableFromOrigins() {
+        // given
+        Reachability reachability = new Reachability();
+
+        // when
+        snapshot.findReachable(List.of(2L, 7L), 12, Integer.MAX_VALUE, reachability);
+
+        // then
+        assertThat(stations(reachability)).containsExactly(a, c, f);
+        assertThat(distances(reachability)).containsExactly(10, 10, 12);
+        assertThatThrownBy(() -> snapshot.findReachable(List.of(Long.MAX_VALUE), 12, 0, reachability))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.findReachable(List.of(1L), -1, 0, reachability))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Station> stations(Reachability reachability) {
+        return IntStream.range(0, reachability.size())
+                .mapToObj(reachability::getStation)
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> distances(Reachability reachability) {
+        return IntStream.range(0, reachability.size())
+                .mapToObj(reachability::getDistance)
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> transfers(Reachability reachability) {
+        return IntStream.range(0, reachability.size())
+                .mapToObj(reachability::getTransfers)
+                .collect(Collectors.toList());
+    }
+
+    private Line line(Long id) {
+        return new Line(id, id + "호선", "bg-" + id);
+    }
+
+    private List<Long> lineIds(Journey journey) {
+        return journey.getLegs().stream()
+                .map(leg -> leg.getLine().getId())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+package subway.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("long-int 해시 맵")
+class LongIntHashMapTest {
+
+    @DisplayName("넣고 지우기를 섞어도 HashMap과 같은 결과를 돌려준다.")
+    @Test
+    void behaveLikeHashMap() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(2_000) - 10;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(removed == null ? LongIntHashMap.MISSING : removed);
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -10; key < 1_990; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongIntHashMap.MISSING));
+        }
+    }
+
+    @DisplayName("복사본을 고쳐도 원본은 바뀌지 않는다.")
+    @Test
+    void copyIsIndependent() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(2);
+        map.put(1L, 0);
+        map.put(2L, 1);
+
+        // when
+        LongIntHashMap copy = map.copy();
+        copy.remove(1L);
+        copy.put(3L, 2);
+
+        // then
+        assertThat(map.get(1L)).isEqualTo(0);
+        assertThat(map.containsKey(3L)).isFalse();
+        assertThat(copy.get(1L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(copy.get(3L)).isEqualTo(2);
+    }
+}
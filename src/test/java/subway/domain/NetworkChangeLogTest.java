@@ -0,0 +1,48 @@
+package subway.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 네트워크 변경 기록")
+class NetworkChangeLogTest {
+    @DisplayName("기준 버전 이후의 변경을 모두 합쳐 돌려준다.")
+    @Test
+    void findChangesSince() {
+        // given
+        NetworkChangeLog changeLog = NetworkChangeLog.startingAt(10, 8)
+                .append(11, NetworkChange.ofStation(1L))
+                .append(13, NetworkChange.ofLine(7L))
+                .append(14, NetworkChange.ofStation(2L));
+
+        // when
+        Optional<NetworkChange> sinceStart = changeLog.findChangesSince(10, 14);
+        Optional<NetworkChange> sinceMiddle = changeLog.findChangesSince(12, 13);
+        Optional<NetworkChange> sinceLatest = changeLog.findChangesSince(14, 14);
+
+        // then
+        assertThat(sinceStart.orElseThrow().getStationIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(sinceStart.orElseThrow().getLineIds()).containsExactly(7L);
+        assertThat(sinceMiddle.orElseThrow().getStationIds()).isEmpty();
+        assertThat(sinceMiddle.orElseThrow().getLineIds()).containsExactly(7L);
+        assertThat(sinceLatest.orElseThrow().size()).isZero();
+    }
+
+    @DisplayName("보관 범위를 벗어난 버전이나 아직 없는 버전의 변경은 알 수 없다.")
+    @Test
+    void findChangesSinceOutOfRange() {
+        // given
+        NetworkChangeLog changeLog = NetworkChangeLog.startingAt(10, 2)
+                .append(11, NetworkChange.ofStation(1L))
+                .append(12, NetworkChange.ofStation(2L))
+                .append(13, NetworkChange.ofStation(3L));
+
+        // then
+        assertThat(changeLog.findChangesSince(10, 13)).isEmpty();
+        assertThat(changeLog.findChangesSince(14, 13)).isEmpty();
+        assertThat(changeLog.findChangesSince(11, 13).orElseThrow().getStationIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+}
@@ -0,0 +1,72 @@
+package subway.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("역 이름 색인")
+class StationNameIndexTest {
+    private final Station gangnam = new Station(1L, "강남역");
+    private final Station gangnamGu = new Station(2L, "강남구청역");
+    private final Station gangbyeon = new Station(3L, "강변역");
+    private final Station dmc = new Station(4L, "디지털미디어시티 DMC역");
+
+    private final StationNameIndex index = StationNameIndex.of(List.of(gangnam, gangnamGu, gangbyeon, dmc));
+
+    @DisplayName("입력 중인 마지막 글자에 받침이 없으면 받침이 붙은 글자까지 찾고, 짧은 이름부터 보여준다.")
+    @Test
+    void searchWithIncompleteSyllable() {
+        assertThat(index.search("강나", 10)).containsExactly(gangnam, gangnamGu);
+        assertThat(index.search("가", 10)).containsExactly(gangnam, gangbyeon, gangnamGu);
+        assertThat(index.search("강남역", 10)).containsExactly(gangnam);
+    }
+
+    @DisplayName("초성이나 초성이 섞인 검색어로 찾는다.")
+    @Test
+    void searchWithInitials() {
+        assertThat(index.search("ㄱㄴ", 10)).containsExactly(gangnam, gangnamGu);
+        assertThat(index.search("강ㅂ", 10)).containsExactly(gangbyeon);
+    }
+
+    @DisplayName("초성이 섞인 검색어는 완성된 글자를 그대로 비교하고, 초성 자리만 초성으로 비교한다.")
+    @Test
+    void searchWithMixedQuery() {
+        // given
+        Station gunae = new Station(5L, "구내역");
+        StationNameIndex mixed = StationNameIndex.of(List.of(gangnam, gangnamGu, gunae));
+
+        // when, then
+        assertThat(mixed.search("강ㄴ", 10)).containsExactly(gangnam, gangnamGu);
+        assertThat(mixed.search("ㄱㄴ", 10)).containsExactly(gangnam, gunae, gangnamGu);
+        assertThat(mixed.search("ㄱ내", 10)).containsExactly(gunae);
+        assertThat(mixed.search("강ㄴ", 1)).containsExactly(gangnam);
+    }
+
+    @DisplayName("공백과 대소문자를 무시하고, 개수 제한을 지킨다.")
+    @Test
+    void searchNormalized() {
+        assertThat(index.search("디지털미디어시티dmc", 10)).containsExactly(dmc);
+        assertThat(index.search(" 강 ", 2)).containsExactly(gangnam, gangbyeon);
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    @DisplayName("이름이 바뀌거나 삭제된 역은 색인에서 갱신된다.")
+    @Test
+    void patch() {
+        // given
+        Station renamed = new Station(1L, "신논현역");
+        Station added = new Station(5L, "강동역");
+
+        // when
+        StationNameIndex patched = index.patch(List.of(renamed, added), Set.of(3L));
+
+        // then
+        assertThat(patched.search("강", 10)).containsExactly(added, gangnamGu);
+        assertThat(patched.search("ㅅㄴ", 10)).containsExactly(renamed);
+        assertThat(index.search("강", 10)).containsExactly(gangnam, gangbyeon, gangnamGu);
+    }
+}
@@ -0,0 +1,129 @@
+package subway.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("지하철 네트워크 스냅샷 부분 갱신")
+class SubwayNetworkSnapshotTest {
+    private final Station gyodae = new Station(1L, "교대역");
+    private final Station gangnam = new Station(2L, "강남역");
+    private final Station yeoksam = new Station(3L, "역삼역");
+    private final Line lineTwo = new Line(1L, "2호선", "bg-green-600");
+
+    private SubwayNetworkSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = SubwayNetworkSnapshot.of(
+                List.of(gyodae, gangnam, yeoksam),
+                List.of(lineTwo),
+                List.of(new Section(1L, 1L, 1L, 2L, 5), new Section(2L, 1L, 2L, 3L, 3))
+        );
+    }
+
+    @DisplayName("역 이름을 바꾸면 이름 색인만 갱신되고 경로는 그대로 유지된다.")
+    @Test
+    void applyStationRename() {
+        // given
+        Station renamed = new Station(2L, "신논현역");
+        NetworkPatch patch = new NetworkPatch(Set.of(2L), List.of(renamed), Collections.emptySet(), Collections.emptyList(), Collections.emptyList());
+
+        // when
+        SubwayNetworkSnapshot patched = snapshot.apply(patch);
+
+        // then
+        assertThat(patched.findStationByName("강남역")).isEmpty();
+        assertThat(patched.findStationByName("신논현역")).hasValue(renamed);
+        assertThat(patched.findShortestPath(1L, 3L).getStations()).containsExactly(gyodae, renamed, yeoksam);
+        assertThat(snapshot.findStationByName("강남역")).hasValue(gangnam);
+    }
+
+    @DisplayName("새 역과 구간을 함께 추가하면 노선 순서와 경로가 갱신된다.")
+    @Test
+    void applyNewStationWithSection() {
+        // given
+        Station seolleung = new Station(4L, "선릉역");
+        List<Section> sections = List.of(
+                new Section(1L, 1L, 1L, 2L, 5),
+                new Section(2L, 1L, 2L, 3L, 3),
+                new Section(3L, 1L, 3L, 4L, 2)
+        );
+        NetworkPatch patch = new NetworkPatch(Set.of(4L), List.of(seolleung), Set.of(1L), List.of(lineTwo), sections);
+
+        // when
+        SubwayNetworkSnapshot patched = snapshot.apply(patch);
+
+        // then
+        SubwayNetworkSnapshot rebuilt = SubwayNetworkSnapshot.of(List.of(gyodae, gangnam, yeoksam, seolleung), List.of(lineTwo), sections);
+        assertThat(patched.findOrderedStationIdsByLineId(1L)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(patched.findShortestPath(1L, 4L).getDistance()).isEqualTo(rebuilt.findShortestPath(1L, 4L).getDistance());
+        assertThat(patched.getStations()).containsExactlyElementsOf(rebuilt.getStations());
+    }
+
+    @DisplayName("구간을 나누면 기존 구간의 간선만 교체된다.")
+    @Test
+    void applySplitSection() {
+        // given
+        Station seolleung = new Station(4L, "선릉역");
+        SubwayNetworkSnapshot withSeolleung = snapshot.apply(new NetworkPatch(
+                Set.of(4L), List.of(seolleung), Collections.emptySet(), Collections.emptyList(), Collections.emptyList()));
+        List<Section> sections = List.of(
+                new Section(3L, 1L, 1L, 4L, 2),
+                new Section(4L, 1L, 4L, 2L, 3),
+                new Section(2L, 1L, 2L, 3L, 3)
+        );
+
+        // when
+        SubwayNetworkSnapshot patched = withSeolleung.apply(new NetworkPatch(
+                Collections.emptySet(), Collections.emptyList(), Set.of(1L), List.of(lineTwo), sections));
+
+        // then
+        assertThat(patched.findOrderedStationIdsByLineId(1L)).containsExactly(1L, 4L, 2L, 3L);
+        assertThat(patched.findShortestPath(1L, 3L).getStations()).containsExactly(gyodae, seolleung, gangnam, yeoksam);
+        assertThat(patched.findShortestPath(1L, 3L).getDistance()).isEqualTo(8);
+    }
+
+    @DisplayName("노선을 삭제하면 노선의 구간과 순서, 경로가 함께 제거된다.")
+    @Test
+    void applyLineDeletion() {
+        // given
+        NetworkPatch patch = new NetworkPatch(Collections.emptySet(), Collections.emptyList(), Set.of(1L), Collections.emptyList(), Collections.emptyList());
+
+        // when
+        SubwayNetworkSnapshot patched = snapshot.apply(patch);
+
+        // then
+        assertThat(patched.getLines()).isEmpty();
+        assertThat(patched.findLineByName("2호선")).isEmpty();
+        assertThat(patched.findSectionsByLineId(1L)).isEmpty();
+        assertThat(patched.findOrderedStationIdsByLineId(1L)).isEmpty();
+        assertThatThrownBy(() -> patched.findShortestPath(1L, 3L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("구간에 포함되지 않은 역을 삭제하면 더 이상 조회되지 않는다.")
+    @Test
+    void applyStationDeletion() {
+        // given
+        SubwayNetworkSnapshot withoutLine = snapshot.apply(new NetworkPatch(
+                Collections.emptySet(), Collections.emptyList(), Set.of(1L), Collections.emptyList(), Collections.emptyList()));
+
+        // when
+        SubwayNetworkSnapshot patched = withoutLine.apply(new NetworkPatch(
+                Set.of(3L), Collections.emptyList(), Collections.emptySet(), Collections.emptyList(), Collections.emptyList()));
+
+        // then
+        assertThat(patched.findStation(3L)).isEmpty();
+        assertThat(patched.getStations()).containsExactly(gyodae, gangnam);
+        assertThatThrownBy(() -> patched.findShortestPath(1L, 3L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import subway.accesslog.AccessLogWriter;
+import subway.dto.LineRequest;
+import subway.dto.StationRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+@TestPropertySource(properties = {"subway.access-log.sample-rate=0", "subway.access-log.endpoint-rates.[/lines]=1"})
+@DisplayName("접근 로그 기능")
+public class AccessLogIntegrationTest extends IntegrationTest {
+    @Autowired
+    private AccessLogWriter accessLogWriter;
+
+    @DisplayName("표본에서 빠진 오류 응답도 요청 본문과 함께 한 줄로 기록하고, 표본에서 빠진 성공 응답은 기록하지 않는다.")
+    @Test
+    void logUnsampledErrorsWithBodies(CapturedOutput output) throws InterruptedException {
+        // given
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new StationRequest("강남역"))
+                .when().post("/stations");
+
+        // when
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new StationRequest("강남역"))
+                .when().post("/stations");
+
+        // then
+        awaitWritten(1);
+        assertThat(output.getOut()).containsOnlyOnce("endpoint=/stations status=409");
+        assertThat(output.getOut()).contains("req=\"{\\\"name\\\":");
+        assertThat(accessLogWriter.stats().getSampledOut()).isEqualTo(1);
+        assertThat(accessLogWriter.stats().getDropped()).isZero();
+    }
+
+    @DisplayName("표본으로 뽑힌 엔드포인트는 요청과 응답 본문을 함께 기록한다.")
+    @Test
+    void logSampledEndpointWithBodies(CapturedOutput output) throws InterruptedException {
+        // when
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new LineRequest("2호선", "bg-green-600"))
+                .when().post("/lines");
+
+        // then
+        awaitWritten(1);
+        assertThat(output.getOut()).containsOnlyOnce("endpoint=/lines status=201");
+        assertThat(output.getOut()).contains("req=\"{\\\"name\\\":");
+        assertThat(output.getOut()).contains("res=\"{\\\"id\\\":");
+        assertThat(accessLogWriter.stats().getSampledOut()).isZero();
+    }
+
+    @DisplayName("압축된 응답은 본문 대신 인코딩만 기록한다.")
+    @Test
+    void logEncodingInsteadOfCompressedBody(CapturedOutput output) throws InterruptedException {
+        // given
+        RestAssuredConfig rawContent = RestAssured.config()
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        String contentEncoding = null;
+
+        // when
+        while (!"gzip".equals(contentEncoding) && Instant.now().isBefore(deadline)) {
+            contentEncoding = RestAssured.given()
+                    .config(rawContent)
+                    .header("Accept-Encoding", "gzip")
+                    .when().get("/lines")
+                    .then().extract()
+                    .header("Content-Encoding");
+        }
+
+        // then
+        assertThat(contentEncoding).isEqualTo("gzip");
+        Instant written = Instant.now().plus(Duration.ofSeconds(5));
+        while (!output.getOut().contains("res=\"[gzip") && Instant.now().isBefore(written)) {
+            Thread.sleep(10);
+        }
+        assertThat(output.getOut()).contains("res=\"[gzip 본문 생략]\"");
+    }
+
+    private void awaitWritten(long count) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (accessLogWriter.stats().getWritten() < count && Instant.now().isBefore(deadline)) {
+            Thread.sleep(10);
+        }
+        assertThat(accessLogWriter.stats().getWritten()).isEqualTo(count);
+    }
+}
@@ -0,0 +1,64 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import subway.application.DatabaseExecutor;
+import subway.dto.StationRequest;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "subway.db-executor.queue-capacity=0"
+})
+@DisplayName("DB 작업 과부하 처리 기능")
+public class BackpressureIntegrationTest extends IntegrationTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Autowired
+    private DatabaseExecutor databaseExecutor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @DisplayName("DB 작업이 밀려 있으면 503 응답을 바로 받고, 메모리에서 답할 수 있는 요청은 계속 처리한다.")
+    @Test
+    void serviceUnavailableWhenDatabaseIsBusy() {
+        // given
+        databaseExecutor.run(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        ExtractableResponse<Response> createResponse = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new StationRequest("강남역"))
+                .when().post("/stations")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> listResponse = RestAssured.given().log().all()
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(listResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+}
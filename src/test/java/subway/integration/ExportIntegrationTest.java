@@ -0,0 +1,108 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.dto.LineRequest;
+import subway.dto.SectionRequest;
+import subway.dto.StationRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 데이터 내보내기 기능")
+public class ExportIntegrationTest extends IntegrationTest {
+    private Long lineId;
+    private Long gangnamId;
+    private Long yeoksamId;
+    private Long seolleungId;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        lineId = createId("/lines", new LineRequest("2호선", "bg-green-600"));
+        gangnamId = createId("/stations", new StationRequest("강남역"));
+        yeoksamId = createId("/stations", new StationRequest("역삼역"));
+        seolleungId = createId("/stations", new StationRequest("선릉역"));
+        RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new SectionRequest(gangnamId, seolleungId, 10))
+                .when().post("/lines/{lineId}/sections", lineId);
+    }
+
+    @DisplayName("지하철역을 한 줄에 하나씩 JSON으로 내보낸다.")
+    @Test
+    void exportStations() {
+        // when
+        ExtractableResponse<Response> response = export("/stations/export");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(lines(response)).containsExactly(
+                "{\"id\":" + gangnamId + ",\"name\":\"강남역\"}",
+                "{\"id\":" + yeoksamId + ",\"name\":\"역삼역\"}",
+                "{\"id\":" + seolleungId + ",\"name\":\"선릉역\"}"
+        );
+    }
+
+    @DisplayName("지하철 노선을 한 줄에 하나씩 JSON으로 내보낸다.")
+    @Test
+    void exportLines() {
+        // when
+        ExtractableResponse<Response> response = export("/lines/export");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(lines(response)).containsExactly(
+                "{\"id\":" + lineId + ",\"name\":\"2호선\",\"color\":\"bg-green-600\"}"
+        );
+    }
+
+    @DisplayName("지하철 구간을 한 줄에 하나씩 JSON으로 내보낸다.")
+    @Test
+    void exportSections() {
+        // when
+        ExtractableResponse<Response> response = export("/sections/export");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(lines(response)).hasSize(1)
+                .allSatisfy(line -> assertThat(line)
+                        .contains("\"lineId\":" + lineId)
+                        .contains("\"upStationId\":" + gangnamId)
+                        .contains("\"downStationId\":" + seolleungId)
+                        .contains("\"distance\":10"));
+    }
+
+    private ExtractableResponse<Response> export(String path) {
+        return RestAssured.given().log().all()
+                .when()
+                .get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    private List<String> lines(ExtractableResponse<Response> response) {
+        String body = response.asString();
+        assertThat(body).endsWith("\n");
+        return List.of(body.split("\n"));
+    }
+
+    private Long createId(String path, Object request) {
+        String location = RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post(path)
+                .then()
+                .extract().header("Location");
+        return Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+    }
+}
@@ -0,0 +1,67 @@
+package subway.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("large")
+@DisplayName("대용량 지하철 데이터 내보내기 기능")
+public class LargeExportIntegrationTest extends IntegrationTest {
+    private static final int STATION_COUNT = 1_000_000;
+    private static final int INSERT_CHUNK_SIZE = 100_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    static Path directory;
+
+    // 운영과 같이 URL에 LAZY_QUERY_EXECUTION을 넣지 않는다. 지연 실행은 내보내기 연결이 직접 켠다.
+    @DynamicPropertySource
+    static void fileDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + directory.resolve("subway"));
+        registry.add("spring.sql.init.mode", () -> "always");
+    }
+
+    @DisplayName("백만 개의 지하철역을 작은 힙에서도 모두 내보낸다.")
+    @Test
+    void exportMillionStations() throws IOException, InterruptedException {
+        // given
+        for (int from = 1; from <= STATION_COUNT; from += INSERT_CHUNK_SIZE) {
+            jdbcTemplate.update("insert into STATION (name) select '역' || x from system_range(?, ?)",
+                    from, from + INSERT_CHUNK_SIZE - 1);
+        }
+
+        // when
+        HttpResponse<InputStream> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/stations/export")).build(),
+                HttpResponse.BodyHandlers.ofInputStream()
+        );
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        long lineCount;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            lineCount = reader.lines().count();
+        }
+        assertThat(lineCount).isEqualTo(STATION_COUNT);
+    }
+}
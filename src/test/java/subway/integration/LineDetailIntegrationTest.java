@@ -0,0 +1,140 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.dto.LineRequest;
+import subway.dto.SectionRequest;
+import subway.dto.StationRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선 상세 조회 기능")
+@Import(SqlStatementCounter.class)
+public class LineDetailIntegrationTest extends IntegrationTest {
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @DisplayName("노선을 조회하면 상행 종점부터 하행 종점까지 역 목록이 순서대로 조회된다.")
+    @Test
+    void getLineWithOrderedStations() {
+        // given
+        Long lineId = createId("/lines", new LineRequest("2호선", "bg-green-600"));
+        Long gangnamId = createId("/stations", new StationRequest("강남역"));
+        Long yeoksamId = createId("/stations", new StationRequest("역삼역"));
+        Long seolleungId = createId("/stations", new StationRequest("선릉역"));
+        Long gyodaeId = createId("/stations", new StationRequest("교대역"));
+        addSection(lineId, new SectionRequest(gangnamId, seolleungId, 10));
+        addSection(lineId, new SectionRequest(gangnamId, yeoksamId, 4));
+        addSection(lineId, new SectionRequest(gyodaeId, gangnamId, 3));
+
+        // when
+        ExtractableResponse<Response> line = get("/lines/" + lineId);
+        ExtractableResponse<Response> lines = get("/lines");
+        ExtractableResponse<Response> linePage = get("/lines?limit=10");
+
+        // then
+        assertThat(line.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(line.jsonPath().getList("stations.name", String.class))
+                .containsExactly("교대역", "강남역", "역삼역", "선릉역");
+        assertThat(lines.jsonPath().getList("stations[0].name", String.class))
+                .containsExactly("교대역", "강남역", "역삼역", "선릉역");
+        assertThat(linePage.jsonPath().getList("items[0].stations.name", String.class))
+                .containsExactly("교대역", "강남역", "역삼역", "선릉역");
+    }
+
+    @DisplayName("노선 상세 조회의 SQL 실행 횟수는 노선망 크기와 관계없이 일정하다.")
+    @Test
+    void getLinesWithConstantStatements() {
+        // given
+        Long firstLineId = createLineWithStations(0, 2);
+        List<Integer> smallNetwork = countStatements(firstLineId);
+        for (int line = 1; line <= 5; line++) {
+            createLineWithStations(line, 6);
+        }
+
+        // when
+        List<Integer> largeNetwork = countStatements(firstLineId);
+
+        // then
+        assertThat(largeNetwork).isEqualTo(smallNetwork).containsExactly(0, 0, 1);
+        assertThat(get("/lines?limit=100").jsonPath().getList("items.stations.flatten()")).hasSize(2 + 5 * 6);
+    }
+
+    @DisplayName("존재하지 않는 노선과 지하철역은 DB를 읽지 않고 404 응답을 받는다.")
+    @Test
+    void getUnknownLineAndStationWithoutStatements() {
+        // given
+        Long lineId = createLineWithStations(0, 2);
+        sqlStatementCounter.reset();
+
+        // when
+        ExtractableResponse<Response> line = get("/lines/" + (lineId + 1000));
+        ExtractableResponse<Response> station = get("/stations/" + (lineId + 1000));
+
+        // then
+        assertThat(line.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(station.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(sqlStatementCounter.count()).isZero();
+    }
+
+    private List<Integer> countStatements(Long lineId) {
+        List<Integer> counts = new ArrayList<>();
+        for (String path : List.of("/lines", "/lines/" + lineId, "/lines?limit=100")) {
+            sqlStatementCounter.reset();
+            assertThat(get(path).statusCode()).isEqualTo(HttpStatus.OK.value());
+            counts.add(sqlStatementCounter.count());
+        }
+        return counts;
+    }
+
+    private Long createLineWithStations(int line, int stationCount) {
+        Long lineId = createId("/lines", new LineRequest(line + "호선", "bg-green-600"));
+        Long upStationId = createId("/stations", new StationRequest(line + "호선 0역"));
+        for (int station = 1; station < stationCount; station++) {
+            Long downStationId = createId("/stations", new StationRequest(line + "호선 " + station + "역"));
+            addSection(lineId, new SectionRequest(upStationId, downStationId, 5));
+            upStationId = downStationId;
+        }
+        return lineId;
+    }
+
+    private ExtractableResponse<Response> get(String path) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    private void addSection(Long lineId, SectionRequest sectionRequest) {
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(sectionRequest)
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all();
+    }
+
+    private Long createId(String path, Object request) {
+        String location = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post(path)
+                .then().log().all()
+                .extract()
+                .header("Location");
+        return Long.parseLong(location.split("/")[2]);
+    }
+}
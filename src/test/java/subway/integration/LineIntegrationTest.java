@@ -47,7 +47,7 @@ public class LineIntegrationTest extends IntegrationTest {
         assertThat(response.header("Location")).isNotBlank();
     }
 
-    @DisplayName("기존에 존재하는 지하철 노선 이름으로 지하철 노선을 생성한다.")
+    @DisplayName("기존에 존재하는 지하철 노선 이름으로 지하철 노선을 생성하면 409 응답을 받는다.")
     @Test
     void createLineWithDuplicateName() {
         // given
@@ -69,7 +69,26 @@ public class LineIntegrationTest extends IntegrationTest {
                 extract();
 
         // then
-        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @DisplayName("지하철 노선을 한 번에 여러 개 생성한다.")
+    @Test
+    void createLinesInBulk() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(List.of(lineRequest1, lineRequest2, lineRequest1))
+                .when().post("/lines/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("items.status", String.class))
+                .containsExactly("CREATED", "CREATED", "DUPLICATE");
+        assertThat(response.jsonPath().getList("items.index", Integer.class)).containsExactly(0, 1, 2);
     }
 
     @DisplayName("지하철 노선 목록을 조회한다.")
@@ -111,6 +130,82 @@ public class LineIntegrationTest extends IntegrationTest {
         assertThat(resultLineIds).containsAll(expectedLineIds);
     }
 
+    @DisplayName("지하철 노선 목록을 커서로 나누어 조회한다.")
+    @Test
+    void getLinePages() {
+        // given
+        Stream.of(lineRequest1, lineRequest2).forEach(request -> RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post("/lines")
+                .then().log().all());
+
+        // when
+        ExtractableResponse<Response> firstPage = RestAssured
+                .given().log().all()
+                .when().get("/lines?limit=1&fields=name")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> secondPage = RestAssured
+                .given().log().all()
+                .queryParam("after", firstPage.jsonPath().getString("next"))
+                .queryParam("fields", "name")
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(firstPage.jsonPath().getList("items.name", String.class)).containsExactly(lineRequest1.getName());
+        assertThat(firstPage.jsonPath().getList("items.color")).containsOnlyNulls();
+        assertThat(secondPage.jsonPath().getList("items.name", String.class)).containsExactly(lineRequest2.getName());
+        assertThat(secondPage.jsonPath().getString("next")).isNull();
+    }
+
+    @DisplayName("지하철 노선 목록이 바뀌지 않았으면 304 응답을 받고, 바뀌면 새 목록을 받는다.")
+    @Test
+    void getLinesWithETag() {
+        // given
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(lineRequest1)
+                .when().post("/lines")
+                .then().log().all();
+        String eTag = RestAssured
+                .given().log().all()
+                .when().get("/lines")
+                .then().log().all()
+                .extract()
+                .header("ETag");
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = RestAssured
+                .given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(lineRequest2)
+                .when().post("/lines")
+                .then().log().all();
+        ExtractableResponse<Response> modifiedResponse = RestAssured
+                .given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/lines")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.header("ETag")).isNotEqualTo(eTag);
+        assertThat(modifiedResponse.jsonPath().getList("name", String.class)).containsExactly("신분당선", "구신분당선");
+    }
+
     @DisplayName("지하철 노선을 조회한다.")
     @Test
     void getLine() {
@@ -164,6 +259,38 @@ public class LineIntegrationTest extends IntegrationTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @DisplayName("다른 노선이 쓰는 이름으로 지하철 노선을 수정하면 409 응답을 받는다.")
+    @Test
+    void updateLineWithDuplicateName() {
+        // given
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(lineRequest2)
+                .when().post("/lines")
+                .then().log().all();
+        ExtractableResponse<Response> createResponse = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(lineRequest1)
+                .when().post("/lines")
+                .then().log().all().
+                extract();
+
+        // when
+        Long lineId = Long.parseLong(createResponse.header("Location").split("/")[2]);
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(lineRequest2)
+                .when().put("/lines/{lineId}", lineId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
     @DisplayName("지하철 노선을 제거한다.")
     @Test
     void deleteLine() {
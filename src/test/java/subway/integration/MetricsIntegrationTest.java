@@ -0,0 +1,67 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.dto.StationRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지표 조회 기능")
+public class MetricsIntegrationTest extends IntegrationTest {
+
+    @DisplayName("경로별 응답 시간과 DAO 실행 시간, 커넥션 대기 시간을 Prometheus 형식으로 조회한다.")
+    @Test
+    void getMetrics() throws InterruptedException {
+        // given
+        String location = RestAssured.given()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new StationRequest("강남역"))
+                .when().post("/stations")
+                .then().extract().header("Location");
+        RestAssured.given().when().get(location);
+
+        // when
+        ExtractableResponse<Response> response = scrapeUntilContains("route=\"/stations/{id}\"");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.TEXT_PLAIN_VALUE);
+        assertThat(response.asString())
+                .contains("subway_http_request_duration_seconds{method=\"POST\",route=\"/stations\",quantile=\"0.99\"}")
+                .contains("subway_http_request_duration_seconds_count{method=\"GET\",route=\"/stations/{id}\"} 1")
+                .contains("subway_dao_query_duration_seconds_count{dao=\"StationDao\",method=\"insert\"} 1")
+                .contains("subway_dao_rows_total{dao=\"StationDao\",method=\"findCachedById\"} 1")
+                .contains("subway_jdbc_connection_wait_seconds_count")
+                .contains("subway_cache_requests_total{cache=\"station\",result=\"hit\"}")
+                .contains("subway_cache_hit_ratio{cache=\"path\"}")
+                .contains("subway_path_cache_coalesced_total 0")
+                .contains("subway_read_coalescing_total{entity=\"station\",role=\"joined\"}")
+                .contains("subway_access_log_dropped_total 0");
+    }
+
+    private ExtractableResponse<Response> scrapeUntilContains(String expected) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        ExtractableResponse<Response> response;
+        do {
+            response = RestAssured.given().log().all()
+                    .when()
+                    .get("/metrics")
+                    .then().log().all()
+                    .extract();
+        } while (!response.asString().contains(expected) && Instant.now().isBefore(deadline) && sleep());
+        return response;
+    }
+
+    private boolean sleep() throws InterruptedException {
+        Thread.sleep(10);
+        return true;
+    }
+}
@@ -0,0 +1,222 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.dto.LineRequest;
+import subway.dto.PathRequest;
+import subway.dto.SectionRequest;
+import subway.dto.StationRequest;
+import subway.ui.CompactResponses;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 네트워크 내려받기 기능")
+public class NetworkIntegrationTest extends IntegrationTest {
+    private Long gangnamId;
+    private Long yeoksamId;
+    private Long lineId;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        gangnamId = createId("/stations", new StationRequest("강남역"));
+        yeoksamId = createId("/stations", new StationRequest("역삼역"));
+        lineId = createId("/lines", new LineRequest("2호선", "bg-green-600"));
+        addSection(lineId, new SectionRequest(gangnamId, yeoksamId, 10));
+    }
+
+    @DisplayName("지하철 네트워크 전체를 JSON으로 내려받는다.")
+    @Test
+    void showNetwork() {
+        // when
+        ExtractableResponse<Response> response = showNetwork(null);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getBoolean("full")).isTrue();
+        assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("강남역", "역삼역");
+        assertThat(response.jsonPath().getList("lines.id", Long.class)).containsExactly(lineId);
+        assertThat(response.jsonPath().getList("sections.upStationId", Long.class)).containsExactly(gangnamId);
+    }
+
+    @DisplayName("기준 버전 이후 바뀐 역과 노선만 내려받는다.")
+    @Test
+    void showNetworkSince() {
+        // given
+        long version = showNetwork(null).jsonPath().getLong("version");
+        Long seolleungId = createId("/stations", new StationRequest("선릉역"));
+        addSection(lineId, new SectionRequest(yeoksamId, seolleungId, 5));
+        Long isolatedId = createId("/stations", new StationRequest("잠실역"));
+        RestAssured.given().log().all()
+                .when().delete("/stations/{id}", isolatedId)
+                .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = showNetwork(version);
+        ExtractableResponse<Response> tooOld = showNetwork(0L);
+
+        // then
+        assertThat(response.jsonPath().getBoolean("full")).isFalse();
+        assertThat(response.jsonPath().getLong("sinceVersion")).isEqualTo(version);
+        assertThat(response.jsonPath().getLong("version")).isGreaterThan(version);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(seolleungId);
+        assertThat(response.jsonPath().getList("removedStationIds", Long.class)).containsExactly(isolatedId);
+        assertThat(response.jsonPath().getList("lines.id", Long.class)).containsExactly(lineId);
+        assertThat(response.jsonPath().getList("sections.downStationId", Long.class))
+                .containsExactlyInAnyOrder(yeoksamId, seolleungId);
+        assertThat(tooOld.jsonPath().getBoolean("full")).isTrue();
+    }
+
+    @DisplayName("바이너리 형식을 요청하면 varint와 문자열 표로 인코딩한 네트워크를 받는다.")
+    @Test
+    void showCompactNetwork() {
+        // given
+        long version = showNetwork(null).jsonPath().getLong("version");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(CompactResponses.MEDIA_TYPE_VALUE)
+                .when().get("/network")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(CompactResponses.MEDIA_TYPE_VALUE);
+        CompactInput in = new CompactInput(response.asByteArray());
+        assertThat(in.readVarint()).isEqualTo(1);
+        assertThat(in.readVarint()).isEqualTo(1);
+        assertThat(in.readVarint()).isEqualTo(version);
+        List<String> strings = new ArrayList<>();
+        for (long count = in.readVarint(); count > 0; count--) {
+            strings.add(in.readString());
+        }
+        assertThat(strings).containsExactly("강남역", "역삼역", "2호선", "bg-green-600");
+        assertThat(in.readVarint()).isEqualTo(2);
+        assertThat(in.readSignedVarint()).isEqualTo(gangnamId);
+        assertThat(in.readVarint()).isZero();
+        assertThat(in.readSignedVarint()).isEqualTo(yeoksamId - gangnamId);
+        assertThat(in.readVarint()).isEqualTo(1);
+    }
+
+    @DisplayName("바이너리 형식보다 JSON의 선호도가 높으면 JSON으로 받는다.")
+    @Test
+    void showNetworkPreferringJson() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(CompactResponses.MEDIA_TYPE_VALUE + ";q=0.5, " + MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/network")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+    }
+
+    @DisplayName("경로 일괄 조회 결과도 바이너리 형식으로 받을 수 있다.")
+    @Test
+    void findCompactPaths() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .accept(CompactResponses.MEDIA_TYPE_VALUE)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(List.of(new PathRequest(gangnamId, yeoksamId)))
+                .when().post("/paths/batch")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.contentType()).startsWith(CompactResponses.MEDIA_TYPE_VALUE);
+        CompactInput in = new CompactInput(response.asByteArray());
+        assertThat(in.readVarint()).isEqualTo(1);
+        assertThat(in.readVarint()).isZero();
+        assertThat(in.readVarint()).isZero();
+        assertThat(in.readVarint()).isEqualTo(1);
+        assertThat(in.readSignedVarint()).isEqualTo(gangnamId);
+        assertThat(in.readVarint()).isEqualTo(1);
+        assertThat(in.readSignedVarint()).isEqualTo(yeoksamId);
+        assertThat(in.readVarint()).isEqualTo(10);
+        assertThat(in.readVarint()).isEqualTo(2);
+        assertThat(in.readSignedVarint()).isEqualTo(gangnamId);
+        assertThat(in.readSignedVarint()).isEqualTo(yeoksamId - gangnamId);
+        assertThat(in.isDrained()).isTrue();
+    }
+
+    private ExtractableResponse<Response> showNetwork(Long since) {
+        Map<String, Object> params = since == null ? Map.of() : Map.of("since", since);
+        return RestAssured.given().log().all()
+                .queryParams(params)
+                .when().get("/network")
+                .then().log().all()
+                .extract();
+    }
+
+    private void addSection(Long lineId, SectionRequest sectionRequest) {
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(sectionRequest)
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all();
+    }
+
+    private Long createId(String path, Object request) {
+        String location = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post(path)
+                .then().log().all()
+                .extract()
+                .header("Location");
+        return Long.parseLong(location.split("/")[2]);
+    }
+
+    private static final class CompactInput {
+        private final ByteArrayInputStream in;
+
+        CompactInput(byte[] bytes) {
+            this.in = new ByteArrayInputStream(bytes);
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in.read();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        long readSignedVarint() {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() {
+            byte[] bytes = new byte[(int) readVarint()];
+            in.read(bytes, 0, bytes.length);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        boolean isDrained() {
+            return in.available() == 0;
+        }
+    }
+}
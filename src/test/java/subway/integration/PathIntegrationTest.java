@@ -0,0 +1,270 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.dto.LineRequest;
+import subway.dto.PathRequest;
+import subway.dto.SectionRequest;
+import subway.dto.StationRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 조회 기능")
+public class PathIntegrationTest extends IntegrationTest {
+    private Long gangnamId;
+    private Long yangjaeId;
+    private Long gyodaeId;
+    private Long nambuTerminalId;
+
+    /**
+     * 교대역 --- 2호선(10) --- 강남역
+     *   |                        |
+     * 3호선(2)              신분당선(10)
+     *   |                        |
+     * 남부터미널역 --- 3호선(3) --- 양재역
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        gangnamId = createId("/stations", new StationRequest("강남역"));
+        yangjaeId = createId("/stations", new StationRequest("양재역"));
+        gyodaeId = createId("/stations", new StationRequest("교대역"));
+        nambuTerminalId = createId("/stations", new StationRequest("남부터미널역"));
+
+        Long lineTwoId = createId("/lines", new LineRequest("2호선", "bg-green-600"));
+        Long lineThreeId = createId("/lines", new LineRequest("3호선", "bg-orange-600"));
+        Long sinbundangId = createId("/lines", new LineRequest("신분당선", "bg-red-600"));
+
+        addSection(lineTwoId, new SectionRequest(gyodaeId, gangnamId, 10));
+        addSection(sinbundangId, new SectionRequest(gangnamId, yangjaeId, 10));
+        addSection(lineThreeId, new SectionRequest(gyodaeId, nambuTerminalId, 2));
+        addSection(lineThreeId, new SectionRequest(nambuTerminalId, yangjaeId, 3));
+    }
+
+    @DisplayName("두 역 사이의 최단 경로를 조회한다.")
+    @Test
+    void findShortestPath() {
+        // when
+        ExtractableResponse<Response> response = findPath(gyodaeId, yangjaeId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        List<Long> stationIds = response.jsonPath().getList("stations.id", Long.class);
+        assertThat(stationIds).containsExactly(gyodaeId, nambuTerminalId, yangjaeId);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    @DisplayName("구간의 방향과 반대로도 경로를 조회할 수 있다.")
+    @Test
+    void findShortestPathInReverse() {
+        // when
+        ExtractableResponse<Response> response = findPath(yangjaeId, gyodaeId);
+
+        // then
+        List<Long> stationIds = response.jsonPath().getList("stations.id", Long.class);
+        assertThat(stationIds).containsExactly(yangjaeId, nambuTerminalId, gyodaeId);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    @DisplayName("노선도가 바뀌면 같은 구간의 경로를 새로 탐색한다.")
+    @Test
+    void findShortestPathAfterNetworkChange() {
+        // given
+        findPath(gangnamId, nambuTerminalId);
+        Long lineFourId = createId("/lines", new LineRequest("4호선", "bg-blue-600"));
+        addSection(lineFourId, new SectionRequest(gangnamId, nambuTerminalId, 1));
+
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, nambuTerminalId);
+
+        // then
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(gangnamId, nambuTerminalId);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(1);
+    }
+
+    @DisplayName("환승이 적은 경로와 거리가 짧은 경로를 기준에 따라 조회한다.")
+    @Test
+    void findPathByCriteria() {
+        // given
+        Long lineFourId = createId("/lines", new LineRequest("4호선", "bg-blue-600"));
+        addSection(lineFourId, new SectionRequest(gangnamId, nambuTerminalId, 30));
+
+        // when
+        ExtractableResponse<Response> fewestTransfers = findPath(gangnamId, nambuTerminalId, "transfers");
+        ExtractableResponse<Response> shortestDistance = findPath(gangnamId, nambuTerminalId, "distance");
+        ExtractableResponse<Response> pareto = findPath(gangnamId, nambuTerminalId, "pareto");
+
+        // then
+        assertThat(fewestTransfers.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(fewestTransfers.jsonPath().getInt("transfers")).isEqualTo(0);
+        assertThat(fewestTransfers.jsonPath().getInt("distance")).isEqualTo(30);
+        assertThat(shortestDistance.jsonPath().getList("stations.id", Long.class))
+                .containsExactly(gangnamId, gyodaeId, nambuTerminalId);
+        assertThat(shortestDistance.jsonPath().getList("legs.lineName", String.class)).containsExactly("2호선", "3호선");
+        assertThat(pareto.jsonPath().getList("transfers", Integer.class)).containsExactly(0, 1);
+        assertThat(pareto.jsonPath().getList("distance", Integer.class)).containsExactly(30, 12);
+    }
+
+    @DisplayName("지원하지 않는 기준으로는 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithUnknownCriteria() {
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, yangjaeId, "fare");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로는 조회할 수 없다.")
+    @Test
+    void findPathBetweenDisconnectedStations() {
+        // given
+        Long isolatedId = createId("/stations", new StationRequest("잠실역"));
+
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, isolatedId);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("존재하지 않는 역으로는 경로를 조회할 수 없다.")
+    @Test
+    void findPathWithUnknownStation() {
+        // when
+        ExtractableResponse<Response> response = findPath(gangnamId, Long.MAX_VALUE);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("여러 출발역과 도착역 쌍의 경로를 한 번에 조회한다.")
+    @Test
+    void findPathsInBatch() {
+        // given
+        Long isolatedId = createId("/stations", new StationRequest("잠실역"));
+        List<PathRequest> pathRequests = List.of(
+                new PathRequest(gyodaeId, yangjaeId),
+                new PathRequest(gangnamId, isolatedId),
+                new PathRequest(gyodaeId, gangnamId),
+                new PathRequest(gangnamId, Long.MAX_VALUE),
+                new PathRequest(gyodaeId, gyodaeId)
+        );
+
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(pathRequests)
+                .when().post("/paths/batch")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        Map<Integer, JsonPath> items = Arrays.stream(response.asString().split("\n"))
+                .map(JsonPath::from)
+                .collect(Collectors.toMap(item -> item.getInt("index"), item -> item));
+        assertThat(items).containsOnlyKeys(0, 1, 2, 3, 4);
+        assertThat(items.get(0).getString("status")).isEqualTo("FOUND");
+        assertThat(items.get(0).getList("stationIds", Long.class)).containsExactly(gyodaeId, nambuTerminalId, yangjaeId);
+        assertThat(items.get(0).getInt("distance")).isEqualTo(5);
+        assertThat(items.get(1).getString("status")).isEqualTo("NOT_CONNECTED");
+        assertThat(items.get(2).getInt("distance")).isEqualTo(10);
+        assertThat(items.get(3).getString("status")).isEqualTo("INVALID");
+        assertThat(items.get(4).getString("status")).isEqualTo("INVALID");
+    }
+
+    @DisplayName("한 역에서 거리와 환승 예산 안에 도달할 수 있는 역을 조회한다.")
+    @Test
+    void findReachableStations() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .queryParam("maxDistance", 10)
+                .queryParam("maxTransfers", 0)
+                .when().get("/stations/{id}/reachable", gyodaeId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("ETag")).isNotNull();
+        assertThat(response.jsonPath().getList("id", Long.class)).containsExactly(nambuTerminalId, yangjaeId, gangnamId);
+        assertThat(response.jsonPath().getList("distance", Integer.class)).containsExactly(2, 5, 10);
+        assertThat(response.jsonPath().getList("transfers", Integer.class)).containsExactly(0, 0, 0);
+    }
+
+    @DisplayName("여러 출발역에서 도달할 수 있는 역을 한 번에 조회한다.")
+    @Test
+    void findReachableStationsFromOrigins() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .queryParam("origins", gangnamId + "," + nambuTerminalId)
+                .queryParam("maxDistance", 3)
+                .when().get("/stations/reachable")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("id", Long.class)).containsExactly(gyodaeId, yangjaeId);
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target, String criteria) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .queryParam("criteria", criteria)
+                .when().get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    private void addSection(Long lineId, SectionRequest sectionRequest) {
+        RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(sectionRequest)
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all();
+    }
+
+    private Long createId(String path, Object request) {
+        String location = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post(path)
+                .then().log().all()
+                .extract()
+                .header("Location");
+        return Long.parseLong(location.split("/")[2]);
+    }
+}
@@ -0,0 +1,156 @@
+package subway.integration;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.dto.LineRequest;
+import subway.dto.SectionRequest;
+import subway.dto.StationRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 구간 관련 기능")
+public class SectionIntegrationTest extends IntegrationTest {
+    private Long lineId;
+    private Long gangnamId;
+    private Long yeoksamId;
+    private Long seolleungId;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        lineId = createId("/lines", new LineRequest("2호선", "bg-green-600"));
+        gangnamId = createId("/stations", new StationRequest("강남역"));
+        yeoksamId = createId("/stations", new StationRequest("역삼역"));
+        seolleungId = createId("/stations", new StationRequest("선릉역"));
+    }
+
+    @DisplayName("지하철 구간을 생성한다.")
+    @Test
+    void createSection() {
+        // when
+        ExtractableResponse<Response> response = addSection(new SectionRequest(gangnamId, seolleungId, 10));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.header("Location")).isEqualTo("/lines/" + lineId);
+    }
+
+    @DisplayName("기존 구간 사이에 구간을 추가하면 기존 구간이 나뉜다.")
+    @Test
+    void createSectionBetweenStations() {
+        // given
+        addSection(new SectionRequest(gangnamId, seolleungId, 10));
+
+        // when
+        ExtractableResponse<Response> response = addSection(new SectionRequest(gangnamId, yeoksamId, 4));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(findDistance(yeoksamId, seolleungId)).isEqualTo(6);
+        assertThat(findDistance(gangnamId, seolleungId)).isEqualTo(10);
+    }
+
+    @DisplayName("기존 구간보다 길거나 같은 구간은 사이에 추가할 수 없다.")
+    @Test
+    void createSectionLongerThanExisting() {
+        // given
+        addSection(new SectionRequest(gangnamId, seolleungId, 10));
+
+        // when
+        ExtractableResponse<Response> response = addSection(new SectionRequest(gangnamId, yeoksamId, 10));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("노선에 연결되지 않는 구간은 추가할 수 없다.")
+    @Test
+    void createDisconnectedSection() {
+        // given
+        Long samsungId = createId("/stations", new StationRequest("삼성역"));
+        addSection(new SectionRequest(gangnamId, yeoksamId, 10));
+
+        // when
+        ExtractableResponse<Response> response = addSection(new SectionRequest(seolleungId, samsungId, 5));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("존재하지 않는 역으로는 구간을 추가할 수 없고, 나뉘려던 기존 구간은 그대로 남는다.")
+    @Test
+    void createSectionWithUnknownStation() {
+        // given
+        addSection(new SectionRequest(gangnamId, seolleungId, 10));
+        Long unknownId = seolleungId + 1000;
+
+        // when
+        ExtractableResponse<Response> firstResponse = addSection(new SectionRequest(seolleungId, unknownId, 5));
+        ExtractableResponse<Response> splitResponse = addSection(new SectionRequest(gangnamId, unknownId, 4));
+
+        // then
+        assertThat(firstResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(splitResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(findDistance(gangnamId, seolleungId)).isEqualTo(10);
+    }
+
+    @DisplayName("노선에서 중간 역을 제거하면 양쪽 구간이 합쳐진다.")
+    @Test
+    void deleteStationFromLine() {
+        // given
+        addSection(new SectionRequest(gangnamId, yeoksamId, 4));
+        addSection(new SectionRequest(yeoksamId, seolleungId, 6));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .queryParam("stationId", yeoksamId)
+                .when().delete("/lines/{lineId}/sections", lineId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(findDistance(gangnamId, seolleungId)).isEqualTo(10);
+    }
+
+    private ExtractableResponse<Response> addSection(SectionRequest sectionRequest) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(sectionRequest)
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all()
+                .extract();
+    }
+
+    private int findDistance(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("source", source)
+                .queryParam("target", target)
+                .when().get("/paths")
+                .then().log().all()
+                .extract()
+                .jsonPath().getInt("distance");
+    }
+
+    private Long createId(String path, Object request) {
+        String location = RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(request)
+                .when().post(path)
+                .then().log().all()
+                .extract()
+                .header("Location");
+        return Long.parseLong(location.split("/")[2]);
+    }
+}
@@ -0,0 +1,63 @@
+package subway.integration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SqlStatementCounter implements BeanPostProcessor {
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource) {
+            return proxy(bean, new Class<?>[]{DataSource.class, Closeable.class}, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection ? countingConnection((Connection) result) : result;
+            });
+        }
+        return bean;
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+
+    public int count() {
+        return count.get();
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) proxy(connection, new Class<?>[]{Connection.class}, (target, method, args) -> {
+            if (STATEMENT_METHODS.contains(method.getName())) {
+                count.incrementAndGet();
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static Object proxy(Object target, Class<?>[] interfaces, Handler handler) {
+        return Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> handler.handle(target, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
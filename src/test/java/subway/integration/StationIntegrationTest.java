@@ -1,25 +1,39 @@
 package subway.integration;
 
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import subway.dto.StationResponse;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("지하철역 관련 기능")
+@Import(SqlStatementCounter.class)
 public class StationIntegrationTest extends IntegrationTest {
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
     @DisplayName("지하철역을 생성한다.")
     @Test
     void createStation() {
@@ -41,7 +55,7 @@ public class StationIntegrationTest extends IntegrationTest {
         assertThat(response.header("Location")).isNotBlank();
     }
 
-    @DisplayName("기존에 존재하는 지하철역 이름으로 지하철역을 생성한다.")
+    @DisplayName("기존에 존재하는 지하철역 이름으로 지하철역을 생성하면 409 응답을 받는다.")
     @Test
     void createStationWithDuplicateName() {
         // given
@@ -65,8 +79,124 @@ public class StationIntegrationTest extends IntegrationTest {
                 .log().all()
                 .extract();
 
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
+    @DisplayName("지하철역을 한 번에 여러 개 생성하고, 중복된 이름은 항목별로 알려준다.")
+    @Test
+    void createStationsInBulk() {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all();
+        List<Map<String, String>> bulkParams = Stream.of("역삼역", "강남역", "선릉역", "역삼역", "")
+                .map(name -> Map.of("name", name))
+                .collect(Collectors.toList());
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(bulkParams)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("items.status", String.class))
+                .containsExactly("CREATED", "DUPLICATE", "CREATED", "DUPLICATE", "INVALID");
+        assertThat(response.jsonPath().getInt("created")).isEqualTo(2);
+        List<Long> createdIds = response.jsonPath().getList("items.findAll { it.status == 'CREATED' }.id", Long.class);
+        List<String> stationNames = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .jsonPath().getList("name", String.class);
+        assertThat(createdIds).hasSize(2).isSorted();
+        assertThat(stationNames).containsExactly("강남역", "역삼역", "선릉역");
+    }
+
+    @DisplayName("JSON 배열이 아닌 본문으로는 지하철역을 한 번에 생성할 수 없다.")
+    @Test
+    void createStationsInBulkWithInvalidBody() {
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(Map.of("name", "강남역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("쓰기가 실패해 되돌려진 뒤에도 중복 이름과 없는 지하철역은 DB를 읽지 않고 판단한다.")
+    @Test
+    void rejectDuplicateNameAfterRolledBackWrite() {
+        // given
+        Long gangnamId = createId("/stations", Map.of("name", "강남역"));
+        Long seolleungId = createId("/stations", Map.of("name", "선릉역"));
+        Long lineId = createId("/lines", Map.of("name", "2호선", "color", "bg-green-600"));
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(Map.of("upStationId", gangnamId, "downStationId", seolleungId, "distance", 10))
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all();
+        ExtractableResponse<Response> splitResponse = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(Map.of("upStationId", gangnamId, "downStationId", seolleungId + 1000, "distance", 4))
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all()
+                .extract();
+        sqlStatementCounter.reset();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(Map.of("name", "강남역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+        int unknownStatus = RestAssured.given().when().get("/stations/{id}", Long.MAX_VALUE).statusCode();
+
+        // then
+        assertThat(splitResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(unknownStatus).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(sqlStatementCounter.count()).isZero();
+    }
+
+    @DisplayName("본문을 끝까지 읽지 못한 일괄 생성은 아무것도 저장하지 않는다.")
+    @Test
+    void createNothingFromTruncatedBulk() {
+        // given
+        String bulkBody = IntStream.range(0, 501)
+                .mapToObj(index -> "{\"name\":\"역" + index + "\"}")
+                .collect(Collectors.joining(",", "[", ",1]"));
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .body(bulkBody)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(RestAssured.given().when().get("/stations").jsonPath().getList("name")).isEmpty();
     }
 
     @DisplayName("지하철역 목록을 조회한다.")
@@ -111,6 +241,285 @@ public class StationIntegrationTest extends IntegrationTest {
         assertThat(resultStationIds).containsAll(expectedStationIds);
     }
 
+    @DisplayName("지하철역 목록을 커서로 나누어 조회한다.")
+    @Test
+    void getStationPages() {
+        // given
+        Stream.of("강남역", "역삼역", "선릉역").forEach(name -> RestAssured.given().log().all()
+                .body(Map.of("name", name))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all());
+
+        // when
+        ExtractableResponse<Response> firstPage = RestAssured.given().log().all()
+                .when()
+                .get("/stations?limit=2")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> secondPage = RestAssured.given().log().all()
+                .queryParam("after", firstPage.jsonPath().getString("next"))
+                .queryParam("limit", 2)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(firstPage.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(firstPage.jsonPath().getList("items.name", String.class)).containsExactly("강남역", "역삼역");
+        assertThat(firstPage.jsonPath().getString("next")).isNotBlank();
+        assertThat(secondPage.jsonPath().getList("items.name", String.class)).containsExactly("선릉역");
+        assertThat(secondPage.jsonPath().getString("next")).isNull();
+    }
+
+    @DisplayName("지하철역 목록에서 원하는 필드만 조회한다.")
+    @Test
+    void getStationPageWithFields() {
+        // given
+        RestAssured.given().log().all()
+                .body(Map.of("name", "강남역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .get("/stations?fields=name")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("items", Map.class)).containsExactly(Map.of("name", "강남역"));
+    }
+
+    @DisplayName("잘못된 커서나 필드로 지하철역 목록을 조회할 수 없다.")
+    @Test
+    void getStationPageWithInvalidParameters() {
+        // when
+        ExtractableResponse<Response> invalidCursor = RestAssured.given().log().all()
+                .when()
+                .get("/stations?after=not-a-cursor")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> invalidField = RestAssured.given().log().all()
+                .when()
+                .get("/stations?fields=password")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(invalidCursor.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(invalidField.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("지하철역 이름을 앞부분이나 초성으로 검색한다.")
+    @Test
+    void searchStations() {
+        // given
+        Stream.of("강남역", "강남구청역", "강변역", "역삼역").forEach(name -> RestAssured.given().log().all()
+                .body(Map.of("name", name))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all());
+
+        // when
+        ExtractableResponse<Response> byPrefix = RestAssured.given().log().all()
+                .queryParam("prefix", "강나")
+                .when()
+                .get("/stations/search")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> byInitials = RestAssured.given().log().all()
+                .queryParam("prefix", "ㄱㅂ")
+                .queryParam("limit", 1)
+                .when()
+                .get("/stations/search")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(byPrefix.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(byPrefix.jsonPath().getList("name", String.class)).containsExactly("강남역", "강남구청역");
+        assertThat(byInitials.jsonPath().getList("name", String.class)).containsExactly("강변역");
+    }
+
+    @DisplayName("지하철역 이름이 바뀌면 검색 결과에도 반영된다.")
+    @Test
+    void searchUpdatedStation() {
+        // given
+        ExtractableResponse<Response> createResponse = RestAssured.given().log().all()
+                .body(Map.of("name", "강남역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+        RestAssured.given().log().all()
+                .body(Map.of("name", "신논현역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .put(createResponse.header("Location"))
+                .then().log().all();
+
+        // when
+        ExtractableResponse<Response> oldName = RestAssured.given().log().all()
+                .queryParam("prefix", "강남")
+                .when()
+                .get("/stations/search")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> newName = RestAssured.given().log().all()
+                .queryParam("prefix", "ㅅㄴㅎ")
+                .when()
+                .get("/stations/search")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(oldName.jsonPath().getList("name", String.class)).isEmpty();
+        assertThat(newName.jsonPath().getList("name", String.class)).containsExactly("신논현역");
+    }
+
+    @DisplayName("지하철역 목록이 바뀌지 않았으면 304 응답을 받는다.")
+    @Test
+    void getStationsNotModified() {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all();
+        ExtractableResponse<Response> firstResponse = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+        String eTag = firstResponse.header("ETag");
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(firstResponse.header("Last-Modified")).isNotBlank();
+        assertThat(firstResponse.header("Cache-Control")).isEqualTo("no-cache");
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.header("ETag")).isEqualTo(eTag);
+        assertThat(response.body().asString()).isEmpty();
+    }
+
+    @DisplayName("지하철역이 추가되면 이전 ETag로 요청해도 새 목록을 받는다.")
+    @Test
+    void getStationsModifiedAfterCreate() {
+        // given
+        String eTag = RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .header("ETag");
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("ETag")).isNotEqualTo(eTag);
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly("강남역");
+    }
+
+    @DisplayName("gzip을 받을 수 있으면 인코딩 스레드가 미리 압축해 둔 지하철역 목록을 받는다.")
+    @Test
+    void getStationsGzipped() throws IOException, InterruptedException {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all();
+        RestAssuredConfig rawContent = RestAssured.config()
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+        // when
+        ExtractableResponse<Response> plain = RestAssured.given().log().all()
+                .config(rawContent)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+        ExtractableResponse<Response> gzipped = awaitGzippedStations(rawContent);
+
+        // then
+        assertThat(plain.header("Content-Encoding")).isNull();
+        assertThat(plain.contentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(plain.jsonPath().getList("name", String.class)).containsExactly("강남역");
+        assertThat(gzipped.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzipped.header("Vary")).contains("Accept-Encoding");
+        assertThat(gzipped.header("ETag")).isNotEqualTo(plain.header("ETag"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(gzipped.asByteArray()))) {
+            assertThat(body.readAllBytes()).isEqualTo(plain.asByteArray());
+        }
+    }
+
+    @DisplayName("압축한 지하철역 목록은 압축한 본문의 ETag로 304 응답을 받는다.")
+    @Test
+    void getStationsGzippedNotModified() throws InterruptedException {
+        // given
+        RestAssuredConfig rawContent = RestAssured.config()
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+        String plainETag = RestAssured.given().log().all()
+                .config(rawContent)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract()
+                .header("ETag");
+        String gzippedETag = awaitGzippedStations(rawContent).header("ETag");
+
+        // when
+        int gzippedStatus = RestAssured.given().config(rawContent)
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", gzippedETag)
+                .when().get("/stations").statusCode();
+        int plainStatus = RestAssured.given().config(rawContent)
+                .header("If-None-Match", gzippedETag)
+                .when().get("/stations").statusCode();
+
+        // then
+        assertThat(gzippedETag).isNotEqualTo(plainETag);
+        assertThat(gzippedStatus).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(plainStatus).isEqualTo(HttpStatus.OK.value());
+    }
+
     @DisplayName("지하철역을 조회한다.")
     @Test
     void getStation() {
@@ -139,6 +548,32 @@ public class StationIntegrationTest extends IntegrationTest {
         assertThat(stationResponse.getId()).isEqualTo(stationId);
     }
 
+    @DisplayName("수정한 지하철역은 DB를 읽지 않고 스냅샷에서 조회한다.")
+    @Test
+    void getUpdatedStationWithoutStatements() {
+        // given
+        Long stationId = createId("/stations", Map.of("name", "강남역"));
+        RestAssured.given().log().all()
+                .body(Map.of("name", "신논현역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .put("/stations/{id}", stationId)
+                .then().log().all();
+        sqlStatementCounter.reset();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .get("/stations/{id}", stationId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getString("name")).isEqualTo("신논현역");
+        assertThat(sqlStatementCounter.count()).isZero();
+    }
+
     @DisplayName("지하철역을 수정한다.")
     @Test
     void updateStation() {
@@ -169,6 +604,45 @@ public class StationIntegrationTest extends IntegrationTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
 
+    @DisplayName("수정한 지하철역을 조회하면 바뀐 이름이 조회된다.")
+    @Test
+    void getUpdatedStation() {
+        // given
+        Map<String, String> params = new HashMap<>();
+        params.put("name", "강남역");
+        ExtractableResponse<Response> createResponse = RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract();
+        String uri = createResponse.header("Location");
+        RestAssured.given().log().all()
+                .when()
+                .get(uri)
+                .then().log().all();
+
+        // when
+        Map<String, String> otherParams = new HashMap<>();
+        otherParams.put("name", "삼성역");
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(otherParams)
+                .when()
+                .put(uri)
+                .then().log().all();
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .get(uri)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.as(StationResponse.class).getName()).isEqualTo("삼성역");
+    }
+
     @DisplayName("지하철역을 제거한다.")
     @Test
     void deleteStation() {
@@ -194,4 +668,83 @@ public class StationIntegrationTest extends IntegrationTest {
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
+
+    @DisplayName("제거한 지하철역을 조회하면 404 응답을 받는다.")
+    @Test
+    void getDeletedStation() {
+        // given
+        String uri = RestAssured.given().log().all()
+                .body(Map.of("name", "강남역"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post("/stations")
+                .then().log().all()
+                .extract()
+                .header("Location");
+        RestAssured.given().when().delete(uri);
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .get(uri)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    @DisplayName("구간에 포함된 지하철역은 제거할 수 없다.")
+    @Test
+    void deleteStationInSection() {
+        // given
+        Long gangnamId = createId("/stations", Map.of("name", "강남역"));
+        Long yeoksamId = createId("/stations", Map.of("name", "역삼역"));
+        Long lineId = createId("/lines", Map.of("name", "2호선", "color", "bg-green-600"));
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(Map.of("upStationId", gangnamId, "downStationId", yeoksamId, "distance", 10))
+                .when().post("/lines/{lineId}/sections", lineId)
+                .then().log().all();
+
+        // when
+        ExtractableResponse<Response> response = RestAssured.given().log().all()
+                .when()
+                .delete("/stations/{id}", gangnamId)
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(RestAssured.given().when().get("/stations/{id}", gangnamId).statusCode()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    // 압축은 인코딩 스레드가 따로 하므로 압축본이 준비될 때까지 다시 요청한다.
+    private ExtractableResponse<Response> awaitGzippedStations(RestAssuredConfig config) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (true) {
+            ExtractableResponse<Response> response = RestAssured.given()
+                    .config(config)
+                    .header("Accept-Encoding", "gzip")
+                    .when()
+                    .get("/stations")
+                    .then()
+                    .extract();
+            if ("gzip".equals(response.header("Content-Encoding")) || Instant.now().isAfter(deadline)) {
+                return response;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private Long createId(String path, Map<String, ?> body) {
+        String location = RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .when().post(path)
+                .then().log().all()
+                .extract()
+                .header("Location");
+        return Long.parseLong(location.split("/")[2]);
+    }
 }
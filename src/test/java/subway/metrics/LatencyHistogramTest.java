@@ -0,0 +1,44 @@
+package subway.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("지연 시간 히스토그램")
+class LatencyHistogramTest {
+
+    @DisplayName("백분위 값을 버킷 정밀도 안에서 계산한다.")
+    @Test
+    void quantiles() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.getCount()).isEqualTo(10_000);
+        assertThat(snapshot.quantile(0.5)).isCloseTo(5_000_000L, within(5_000_000L / 16));
+        assertThat(snapshot.quantile(0.99)).isCloseTo(9_900_000L, within(9_900_000L / 16));
+        assertThat(snapshot.quantile(0.999)).isCloseTo(9_990_000L, within(9_990_000L / 16));
+        assertThat(snapshot.getSum()).isEqualTo(10_000L * 10_001 / 2 * 1000);
+    }
+
+    @DisplayName("모든 값은 자신을 포함하는 버킷에 들어간다.")
+    @Test
+    void bucketBounds() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+}